@@ -8,6 +8,7 @@ import com.example.hrm.repo.DepartmentRepository;
 import com.example.hrm.repo.EmployeeRepository;
 import com.example.hrm.repo.RoleRepository;
 import com.example.hrm.repo.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,20 +18,47 @@ import java.time.LocalDate;
 @Configuration
 public class DataInitializer {
 
+    /** What {@code hrm.seed.mode} loads at startup. */
+    public enum SeedMode {
+        DEMO, SYNTHETIC, NONE;
+
+        public static SeedMode from(String value) {
+            for (SeedMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported seed mode: " + value);
+        }
+    }
+
     @Bean
     public CommandLineRunner initData(
             DepartmentRepository departmentRepository,
             RoleRepository roleRepository,
             EmployeeRepository employeeRepository,
             UserRepository userRepository,
-            org.springframework.security.crypto.password.PasswordEncoder passwordEncoder) {
+            org.springframework.security.crypto.password.PasswordEncoder passwordEncoder,
+            SyntheticDataGenerator syntheticDataGenerator,
+            @Value("${hrm.seed.mode:demo}") String seedMode) {
         
         return args -> {
-            // Clear existing data
-            employeeRepository.deleteAll();
-            departmentRepository.deleteAll();
-            roleRepository.deleteAll();
-            userRepository.deleteAll();
+            SeedMode mode = SeedMode.from(seedMode);
+            if (mode == SeedMode.NONE) {
+                return;
+            }
+
+            // Clear existing data with one statement per table; deleteAll() would load every row first
+            employeeRepository.deleteAllInBatch();
+            departmentRepository.deleteAllInBatch();
+            roleRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+
+            if (mode == SeedMode.SYNTHETIC) {
+                syntheticDataGenerator.generate();
+                createTestUsers(userRepository, passwordEncoder);
+                return;
+            }
 
             // Create Departments
             Department hrDept = new Department("Human Resources", "Manages employee relations and recruitment");
@@ -94,26 +122,32 @@ public class DataInitializer {
             employeeRepository.save(emp5);
             employeeRepository.save(emp6);
 
-            // Create Users with different roles
-            User adminUser = new User("admin", passwordEncoder.encode("admin123"), "admin@company.com", "ROLE_ADMIN");
-            User hrUser = new User("hr", passwordEncoder.encode("hr123"), "hr@company.com", "ROLE_HR");
-            User managerUser = new User("manager", passwordEncoder.encode("manager123"), "manager@company.com", "ROLE_MANAGER");
-            User employeeUser = new User("employee", passwordEncoder.encode("employee123"), "employee@company.com", "ROLE_EMPLOYEE");
-
-            userRepository.save(adminUser);
-            userRepository.save(hrUser);
-            userRepository.save(managerUser);
-            userRepository.save(employeeUser);
+            createTestUsers(userRepository, passwordEncoder);
 
             System.out.println("✅ Sample data initialized successfully!");
             System.out.println("📊 Created: " + departmentRepository.count() + " departments, " + 
                              roleRepository.count() + " roles, " + employeeRepository.count() + " employees, " +
                              userRepository.count() + " users");
-            System.out.println("🔐 Test Users:");
-            System.out.println("   - admin/admin123 (ROLE_ADMIN)");
-            System.out.println("   - hr/hr123 (ROLE_HR)");
-            System.out.println("   - manager/manager123 (ROLE_MANAGER)");
-            System.out.println("   - employee/employee123 (ROLE_EMPLOYEE)");
         };
     }
+
+    // Create Users with different roles
+    private void createTestUsers(UserRepository userRepository,
+                                 org.springframework.security.crypto.password.PasswordEncoder passwordEncoder) {
+        User adminUser = new User("admin", passwordEncoder.encode("admin123"), "admin@company.com", "ROLE_ADMIN");
+        User hrUser = new User("hr", passwordEncoder.encode("hr123"), "hr@company.com", "ROLE_HR");
+        User managerUser = new User("manager", passwordEncoder.encode("manager123"), "manager@company.com", "ROLE_MANAGER");
+        User employeeUser = new User("employee", passwordEncoder.encode("employee123"), "employee@company.com", "ROLE_EMPLOYEE");
+
+        userRepository.save(adminUser);
+        userRepository.save(hrUser);
+        userRepository.save(managerUser);
+        userRepository.save(employeeUser);
+
+        System.out.println("🔐 Test Users:");
+        System.out.println("   - admin/admin123 (ROLE_ADMIN)");
+        System.out.println("   - hr/hr123 (ROLE_HR)");
+        System.out.println("   - manager/manager123 (ROLE_MANAGER)");
+        System.out.println("   - employee/employee123 (ROLE_EMPLOYEE)");
+    }
 } 
\ No newline at end of file
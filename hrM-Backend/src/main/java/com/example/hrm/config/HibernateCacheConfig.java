@@ -0,0 +1,31 @@
+package com.example.hrm.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Creates the JCache manager that holds the Hibernate second-level cache regions and hands it to
+ * Hibernate, so the application reads the same regions Hibernate writes (see
+ * {@link com.example.hrm.service.SecondLevelCacheStats}). Left to itself, Hibernate resolves its
+ * own provider through the thread context class loader and keeps the manager to itself.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // Hibernate closes the manager when the session factory shuts down
+    @Bean(destroyMethod = "")
+    public CacheManager secondLevelCacheManager(@Value("${hrm.second-level-cache.provider}") String provider) {
+        return Caching.getCachingProvider(provider).getCacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.hrm.config;
 
+import com.example.hrm.model.User;
 import com.example.hrm.service.CustomUserDetailsService;
 import com.example.hrm.service.JwtService;
+import com.example.hrm.service.RequestTimings;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,11 +25,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final boolean statelessAuth;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService,
+                                   @Value("${hrm.security.stateless-auth:false}") boolean statelessAuth) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.statelessAuth = statelessAuth;
     }
 
     @Override
@@ -36,6 +43,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final Claims claims;
         final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -43,13 +51,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        long authStart = System.nanoTime();
         jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
+        claims = jwtService.extractAllClaims(jwt);
+        username = claims.getSubject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            // In stateless mode the principal is rebuilt from the token claims instead of the users table.
+            UserDetails userDetails = statelessAuth && claims.containsKey(JwtService.ROLE_CLAIM)
+                    ? userFromClaims(claims)
+                    : this.userDetailsService.loadUserByUsername(username);
             
-            if (jwtService.validateToken(jwt, userDetails)) {
+            if (jwtService.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -59,6 +72,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
+        RequestTimings.record(RequestTimings.Phase.AUTH, authStart);
         filterChain.doFilter(request, response);
     }
+
+    private User userFromClaims(Claims claims) {
+        return new User(
+                claims.getSubject(),
+                "",
+                claims.get(JwtService.EMAIL_CLAIM, String.class),
+                claims.get(JwtService.ROLE_CLAIM, String.class)
+        );
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.example.hrm.config;
+
+import com.example.hrm.dto.CacheStatsDto;
+import com.example.hrm.service.CustomUserDetailsService;
+import com.example.hrm.service.JwtService;
+import com.example.hrm.service.ResponseBodyCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * Publishes the in-process Caffeine caches under the standard {@code cache.*} meter names, tagged
+ * by cache name. Values are read from the caches' own statistics at scrape time, so the request
+ * path is not touched.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(CustomUserDetailsService userDetailsService, JwtService jwtService,
+                                    ResponseBodyCache responseBodyCache) {
+        return registry -> {
+            bind(registry, "users", userDetailsService, CustomUserDetailsService::cacheStats);
+            bind(registry, "verifiedTokens", jwtService, JwtService::cacheStats);
+            bind(registry, "responseBodies", responseBodyCache, ResponseBodyCache::cacheStats);
+        };
+    }
+
+    // Meters hold their target weakly; the owning beans live as long as the context
+    private static <T> void bind(MeterRegistry registry, String name, T owner, Function<T, CacheStatsDto> stats) {
+        Gauge.builder("cache.size", owner, o -> stats.apply(o).getSize())
+                .tag("cache", name)
+                .description("Number of entries in the cache")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", owner, o -> stats.apply(o).getHits())
+                .tags("cache", name, "result", "hit")
+                .description("Cache lookups by result")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", owner, o -> stats.apply(o).getMisses())
+                .tags("cache", name, "result", "miss")
+                .description("Cache lookups by result")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", owner, o -> stats.apply(o).getEvictions())
+                .tag("cache", name)
+                .description("Entries evicted from the cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hrm.config;
+
+import com.example.hrm.service.QueryBudget;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a {@link QueryBudgetInspector} scope around every {@link QueryBudget} method. Runs outside
+ * the transaction advice so statements flushed at commit are counted too.
+ */
+@Aspect
+@Component
+@Order(0)
+public class QueryBudgetAspect {
+
+    private final QueryBudgetInspector inspector;
+
+    @Autowired
+    public QueryBudgetAspect(QueryBudgetInspector inspector) {
+        this.inspector = inspector;
+    }
+
+    @Around("@annotation(budget)")
+    public Object enforce(ProceedingJoinPoint joinPoint, QueryBudget budget) throws Throwable {
+        QueryBudgetInspector.Scope scope = inspector.open(joinPoint.getSignature().toShortString(), budget.value());
+        if (scope == null) {
+            return joinPoint.proceed();
+        }
+        boolean completed = false;
+        try {
+            Object result = joinPoint.proceed();
+            completed = true;
+            return result;
+        } finally {
+            // A method that failed anyway is not also reported for its statements
+            inspector.close(scope, completed);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hrm.config;
+
+import com.example.hrm.service.QueryBudget;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link QueryBudgetInspector} scope around every API request, so authentication, every
+ * service call, the transactions in between and response rendering share one budget: the handler's
+ * {@link QueryBudget} if it has one, otherwise {@code hrm.query-budget.request-budget}. As the
+ * outermost scope it is also where selects repeated across service calls are reported.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetInspector inspector;
+    private final int requestBudget;
+
+    @Autowired
+    public QueryBudgetFilter(QueryBudgetInspector inspector,
+                             @Value("${hrm.query-budget.request-budget:10}") int requestBudget) {
+        this.inspector = inspector;
+        this.requestBudget = requestBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryBudgetInspector.Scope scope = inspector.open(
+                "request " + request.getMethod() + " " + request.getRequestURI(), requestBudget);
+        if (scope == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // The handler is only known once the dispatcher has mapped the request
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+                if (budget != null) {
+                    scope.setBudget(budget.value());
+                }
+            }
+            // A request that failed anyway is not also reported for its statements
+            inspector.close(scope, completed);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.hrm.config;
+
+import com.example.hrm.exception.QueryBudgetExceededException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on each thread, per API request (see {@link QueryBudgetFilter}),
+ * per {@link com.example.hrm.service.QueryBudget} method and per Spring transaction. When a scope ends, a method over its budget, or a SELECT issued
+ * {@code hrm.query-budget.repeat-threshold} or more times with only its bind values changing (a
+ * suspected N+1), is logged ({@code warn}) or raised as {@link QueryBudgetExceededException}
+ * ({@code fail}). Repeated statements are only reported when no other scope is still counting
+ * them, so each is reported once. A transaction is checked before it commits, so in {@code fail}
+ * mode it is rolled back. With {@code off}, the default outside dev and tests, the inspector is
+ * not installed.
+ */
+@Component
+public class QueryBudgetInspector implements StatementInspector, HibernatePropertiesCustomizer {
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetInspector.class);
+
+    public enum Mode {
+        OFF, WARN, FAIL;
+
+        public static Mode from(String value) {
+            for (Mode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("Unknown query budget mode: " + value);
+        }
+    }
+
+    // String and numeric literals, then IN lists of any length, so that statements differing only
+    // in their values have the same shape. Long runs are matched with possessive character classes:
+    // java.util.regex recurses once per repetition of a group, which overflows the stack on a
+    // bulk request's IN list of thousands of placeholders or on a long string literal.
+    private static final Pattern LITERAL = Pattern.compile("'[^']*+(?:''[^']*+)*+'|\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?=\\s*,)[\\s,?]*+\\)");
+    // Pooled id generators fetch the next sequence block in a loop by design; that is not an N+1
+    private static final Pattern SEQUENCE_FETCH = Pattern.compile("next value for|nextval\\s*\\(", Pattern.CASE_INSENSITIVE);
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+
+    private final Mode mode;
+    private final int repeatThreshold;
+
+    @Autowired
+    public QueryBudgetInspector(@Value("${hrm.query-budget.mode:off}") String mode,
+                                @Value("${hrm.query-budget.repeat-threshold:3}") int repeatThreshold) {
+        this.mode = Mode.from(mode);
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (mode != Mode.OFF) {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            openTransactionScope();
+        }
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            String shape = isSelect(sql) && !SEQUENCE_FETCH.matcher(sql).find() ? shape(sql) : null;
+            for (Scope scope : scopes) {
+                scope.statements++;
+                if (shape != null) {
+                    scope.selects.merge(shape, 1, Integer::sum);
+                }
+            }
+        }
+        return sql;
+    }
+
+    /** Starts counting for {@code name}; returns null when budgets are off. */
+    public Scope open(String name, int budget) {
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        Scope scope = new Scope(name, budget);
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        scopes.push(scope);
+        return scope;
+    }
+
+    /** Stops counting for {@code scope} and, if {@code check}, reports what it exceeded. */
+    public void close(Scope scope, boolean check) {
+        boolean last = isLastOpen();
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.remove(scope);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+        if (check) {
+            check(scope, last);
+        }
+    }
+
+    private void openTransactionScope() {
+        Scope scope = open("transaction", -1);
+        TransactionSynchronizationManager.bindResource(this, scope);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Checked before the commit so that a failure rolls the transaction back. Hibernate would
+            // otherwise flush pending writes during the commit, after the check
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!readOnly) {
+                    TransactionSynchronizationManager.getResourceMap().values().stream()
+                            .filter(EntityManagerHolder.class::isInstance)
+                            .forEach(holder -> ((EntityManagerHolder) holder).getEntityManager().flush());
+                }
+                check(scope, isLastOpen());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(QueryBudgetInspector.this);
+                close(scope, false);
+            }
+        });
+    }
+
+    // True while closing the only scope still counting on this thread
+    private static boolean isLastOpen() {
+        Deque<Scope> scopes = SCOPES.get();
+        return scopes == null || scopes.size() <= 1;
+    }
+
+    private void check(Scope scope, boolean last) {
+        List<String> problems = new ArrayList<>();
+        if (scope.budget >= 0 && scope.statements > scope.budget) {
+            problems.add(scope.statements + " statements, budget is " + scope.budget);
+        }
+        if (last) {
+            scope.selects.forEach((sql, count) -> {
+                if (count >= repeatThreshold) {
+                    problems.add("suspected N+1, " + count + " x [" + sql + "]");
+                }
+            });
+        }
+        if (problems.isEmpty()) {
+            return;
+        }
+        String message = "Query budget exceeded in " + scope.name + ": " + String.join("; ", problems);
+        if (mode == Mode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static boolean isSelect(String sql) {
+        String trimmed = sql.stripLeading();
+        return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    private static String shape(String sql) {
+        String normalized = LITERAL.matcher(sql).replaceAll("?");
+        return IN_LIST.matcher(normalized).replaceAll("(?)").toLowerCase(Locale.ROOT);
+    }
+
+    /** Statements counted for one method call or transaction on the current thread. */
+    public static final class Scope {
+        private final String name;
+        private int budget;
+        private int statements;
+        private final Map<String, Integer> selects = new HashMap<>();
+
+        private Scope(String name, int budget) {
+            this.name = name;
+            this.budget = budget;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        // Lets a request scope adopt the budget of the handler it was dispatched to
+        void setBudget(int budget) {
+            this.budget = budget;
+        }
+    }
+}
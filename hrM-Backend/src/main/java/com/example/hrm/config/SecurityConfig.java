@@ -1,7 +1,9 @@
 package com.example.hrm.config;
 
 import com.example.hrm.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,11 +31,17 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final int bcryptStrength;
 
     @Autowired
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, CustomUserDetailsService userDetailsService,
+                          MeterRegistry meterRegistry,
+                          @Value("${hrm.security.bcrypt.strength:10}") int bcryptStrength) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
+        this.bcryptStrength = bcryptStrength;
     }
 
     @Bean
@@ -43,10 +51,15 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/employees/**").hasAnyRole("ADMIN", "HR", "MANAGER", "EMPLOYEE")
                 .requestMatchers("/api/departments/**").hasAnyRole("ADMIN", "HR", "MANAGER")
                 .requestMatchers("/api/roles/**").hasRole("ADMIN")
+                .requestMatchers("/api/dashboard/**").hasAnyRole("ADMIN", "HR", "MANAGER", "EMPLOYEE")
+                .requestMatchers("/api/analytics/**").hasAnyRole("ADMIN", "HR")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -72,7 +85,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), meterRegistry);
     }
 
     @Bean
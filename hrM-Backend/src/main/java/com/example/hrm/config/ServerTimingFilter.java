@@ -0,0 +1,237 @@
+package com.example.hrm.config;
+
+import com.example.hrm.service.RequestTimings;
+import com.example.hrm.service.SlowRequestLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Times every API request by phase (see {@link RequestTimings}), reports the breakdown in a
+ * {@code Server-Timing} header and hands the request to the {@link SlowRequestLog}. Response bodies
+ * are held back until the request completes so the header can include serialization; a body larger
+ * than {@code hrm.server-timing.buffer-size}, one that is flushed explicitly or one written through a
+ * {@link WriteListener} is sent as it comes with the phases measured up to that point. Runs outside the concurrency limit, so time spent
+ * waiting for a slot counts towards the total.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final SlowRequestLog slowRequestLog;
+    private final boolean enabled;
+    private final int bufferSize;
+
+    @Autowired
+    public ServerTimingFilter(SlowRequestLog slowRequestLog,
+                              @Value("${hrm.server-timing.enabled:true}") boolean enabled,
+                              @Value("${hrm.server-timing.buffer-size:65536}") int bufferSize) {
+        this.slowRequestLog = slowRequestLog;
+        this.enabled = enabled;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        TimingResponseWrapper wrapper = new TimingResponseWrapper(response, timings, bufferSize);
+        try {
+            chain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.end(timings);
+            wrapper.complete();
+            slowRequestLog.record(request.getMethod(), request.getRequestURI(), response.getStatus(), timings);
+        }
+    }
+
+    /**
+     * Collects the body in memory until it exceeds the limit or is flushed, and sets the
+     * Server-Timing header before anything reaches the client.
+     */
+    private static final class TimingResponseWrapper extends HttpServletResponseWrapper {
+        private final RequestTimings timings;
+        private final int limit;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean passThrough;
+
+        private TimingResponseWrapper(HttpServletResponse response, RequestTimings timings, int limit) {
+            super(response);
+            this.timings = timings;
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new BufferingOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(),
+                        Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            passThrough();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            discardAndPassThrough();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            discardAndPassThrough();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            discardAndPassThrough();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void resetBuffer() {
+            buffer.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            buffer.reset();
+            super.reset();
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return passThrough && super.isCommitted();
+        }
+
+        /** Sets the final header and sends whatever is still buffered. */
+        private void complete() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            passThrough();
+        }
+
+        private void discardAndPassThrough() throws IOException {
+            buffer.reset();
+            passThrough();
+        }
+
+        private void passThrough() throws IOException {
+            if (passThrough) {
+                return;
+            }
+            passThrough = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (!response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, timings.serverTiming());
+            }
+            if (buffer.size() > 0) {
+                buffer.writeTo(response.getOutputStream());
+                buffer.reset();
+            }
+        }
+
+        private final class BufferingOutputStream extends ServletOutputStream {
+            @Override
+            public void write(int b) throws IOException {
+                if (passThrough) {
+                    getResponse().getOutputStream().write(b);
+                } else {
+                    buffer.write(b);
+                    if (buffer.size() > limit) {
+                        passThrough();
+                    }
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (passThrough) {
+                    getResponse().getOutputStream().write(b, off, len);
+                } else {
+                    buffer.write(b, off, len);
+                    if (buffer.size() > limit) {
+                        passThrough();
+                    }
+                }
+            }
+
+            // Converters flush after every body; only forwarded once the body is no longer held back
+            @Override
+            public void flush() throws IOException {
+                if (passThrough) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            // The buffer always accepts writes; once passed through the container decides
+            @Override
+            public boolean isReady() {
+                if (!passThrough) {
+                    return true;
+                }
+                try {
+                    return getResponse().getOutputStream().isReady();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            // Non-blocking writers get the container's stream, after what was buffered so far
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    passThrough();
+                    getResponse().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
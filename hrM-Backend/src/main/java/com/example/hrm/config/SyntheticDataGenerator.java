@@ -0,0 +1,234 @@
+package com.example.hrm.config;
+
+import com.example.hrm.model.Department;
+import com.example.hrm.model.Employee;
+import com.example.hrm.model.Role;
+import com.example.hrm.model.User;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Generates a production-sized dataset for {@code hrm.seed.mode=synthetic}. The data depends only
+ * on {@code hrm.seed.random-seed} and the configured sizes: department and role headcounts follow a
+ * Zipf distribution, salaries are log-normal around a per-role base and hire dates lean towards
+ * recent years. Employees are inserted in JDBC batches and committed in chunks, so memory use does
+ * not grow with the row count.
+ */
+@Component
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] DEPARTMENT_NAMES = {
+            "Engineering", "Sales", "Operations", "Customer Support", "Marketing", "Finance",
+            "Human Resources", "Information Technology", "Legal", "Procurement", "Logistics",
+            "Research", "Product", "Quality Assurance", "Facilities", "Security", "Data",
+            "Design", "Compliance", "Training"
+    };
+    private static final String[] ROLE_NAMES = {
+            "Software Developer", "Sales Representative", "Support Agent", "Operations Specialist",
+            "Business Analyst", "Accountant", "Manager", "HR Specialist", "Marketing Specialist",
+            "Data Analyst", "QA Engineer", "Product Manager", "Designer", "Legal Counsel",
+            "Buyer", "Technician", "Team Lead", "Director", "Architect", "Intern"
+    };
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William",
+            "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark",
+            "Margaret", "Donald", "Sandra", "Steven", "Ashley", "Paul", "Kimberly", "Andrew", "Emily",
+            "Joshua", "Donna", "Kenneth", "Michelle"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor",
+            "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez",
+            "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright",
+            "Scott", "Torres", "Nguyen", "Hill", "Flores"
+    };
+
+    // Fixed rather than today, so that the same seed yields the same hire dates on any day
+    private static final LocalDate HIRE_DATE_ANCHOR = LocalDate.of(2025, 1, 1);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final long randomSeed;
+    private final int departmentCount;
+    private final int roleCount;
+    private final int employeeCount;
+    private final int userCount;
+    private final int chunkSize;
+    private final int batchSize;
+
+    @Autowired
+    public SyntheticDataGenerator(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  PasswordEncoder passwordEncoder,
+                                  @Value("${hrm.seed.random-seed:42}") long randomSeed,
+                                  @Value("${hrm.seed.departments:50}") int departmentCount,
+                                  @Value("${hrm.seed.roles:40}") int roleCount,
+                                  @Value("${hrm.seed.employees:100000}") int employeeCount,
+                                  @Value("${hrm.seed.users:1000}") int userCount,
+                                  @Value("${hrm.seed.chunk-size:10000}") int chunkSize,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.randomSeed = randomSeed;
+        this.departmentCount = Math.max(1, departmentCount);
+        this.roleCount = Math.max(1, roleCount);
+        this.employeeCount = Math.max(0, employeeCount);
+        this.userCount = Math.max(0, userCount);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Inserts departments, roles, employees and users into empty tables. Synthetic users are named
+     * {@code user1..userN} and all share the password {@code password}.
+     */
+    public void generate() {
+        Random random = new Random(randomSeed);
+        long start = System.nanoTime();
+
+        List<Department> departments = inChunk(() -> {
+            List<Department> created = new ArrayList<>(departmentCount);
+            for (int i = 0; i < departmentCount; i++) {
+                Department department = new Department(numbered(DEPARTMENT_NAMES, i), "Generated department");
+                entityManager.persist(department);
+                created.add(department);
+            }
+            return created;
+        });
+        List<Role> roles = inChunk(() -> {
+            List<Role> created = new ArrayList<>(roleCount);
+            for (int i = 0; i < roleCount; i++) {
+                Role role = new Role(numbered(ROLE_NAMES, i), "Generated role");
+                entityManager.persist(role);
+                created.add(role);
+            }
+            return created;
+        });
+
+        double[] roleBaseSalary = new double[roleCount];
+        for (int i = 0; i < roleCount; i++) {
+            roleBaseSalary[i] = 40_000 + random.nextInt(110_000);
+        }
+        ZipfSampler departmentSampler = new ZipfSampler(departmentCount, 1.1);
+        ZipfSampler roleSampler = new ZipfSampler(roleCount, 1.0);
+        ZipfSampler firstNameSampler = new ZipfSampler(FIRST_NAMES.length, 0.8);
+        ZipfSampler lastNameSampler = new ZipfSampler(LAST_NAMES.length, 0.8);
+
+        long employeesStart = System.nanoTime();
+        for (int from = 0; from < employeeCount; from += chunkSize) {
+            int to = Math.min(employeeCount, from + chunkSize);
+            int chunkStart = from;
+            inChunk(() -> {
+                for (int i = chunkStart; i < to; i++) {
+                    String firstName = FIRST_NAMES[firstNameSampler.next(random)];
+                    String lastName = LAST_NAMES[lastNameSampler.next(random)];
+                    int role = roleSampler.next(random);
+                    // Exponential tenure with a mean of three years, capped at 30
+                    int daysEmployed = (int) Math.min(30 * 365, -Math.log(1 - random.nextDouble()) * 3 * 365);
+                    double salary = Math.round(
+                            roleBaseSalary[role] * Math.exp(0.25 * random.nextGaussian()) / 100) * 100.0;
+                    entityManager.persist(new Employee(
+                            firstName, lastName,
+                            (firstName + "." + lastName + "." + (i + 1) + "@company.com").toLowerCase(Locale.ROOT),
+                            String.format("+1-555-%04d", random.nextInt(10_000)),
+                            HIRE_DATE_ANCHOR.minusDays(daysEmployed), salary,
+                            departments.get(departmentSampler.next(random)), roles.get(role)));
+                    if ((i + 1 - chunkStart) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+                return null;
+            });
+            if (to % (chunkSize * 10) == 0 || to == employeeCount) {
+                log.info("Seeded {} of {} employees ({} rows/s)", to, employeeCount,
+                        rate(to, System.nanoTime() - employeesStart));
+            }
+        }
+
+        String sharedHash = passwordEncoder.encode("password");
+        for (int from = 0; from < userCount; from += chunkSize) {
+            int to = Math.min(userCount, from + chunkSize);
+            int chunkStart = from;
+            inChunk(() -> {
+                for (int i = chunkStart; i < to; i++) {
+                    int pick = random.nextInt(100);
+                    String role = pick < 2 ? "ROLE_HR" : pick < 12 ? "ROLE_MANAGER" : "ROLE_EMPLOYEE";
+                    entityManager.persist(new User("user" + (i + 1), sharedHash,
+                            "user" + (i + 1) + "@users.company.com", role));
+                    if ((i + 1 - chunkStart) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+                return null;
+            });
+        }
+
+        long rows = (long) departmentCount + roleCount + employeeCount + userCount;
+        long elapsed = System.nanoTime() - start;
+        log.info("Seeded {} departments, {} roles, {} employees and {} users from seed {} in {} ms ({} rows/s)",
+                departmentCount, roleCount, employeeCount, userCount, randomSeed, elapsed / 1_000_000,
+                rate(rows, elapsed));
+    }
+
+    private <T> T inChunk(Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            T result = work.get();
+            entityManager.flush();
+            entityManager.clear();
+            return result;
+        });
+    }
+
+    // Cycles through the base names, numbering the second and later rounds ("Sales 2").
+    private static String numbered(String[] names, int i) {
+        String name = names[i % names.length];
+        return i < names.length ? name : name + " " + (i / names.length + 1);
+    }
+
+    private static long rate(long rows, long nanos) {
+        return nanos > 0 ? Math.round(rows / (nanos / 1_000_000_000.0)) : rows;
+    }
+
+    /** Draws indexes 0..n-1 with probability proportional to 1 / (index + 1)^exponent. */
+    private static final class ZipfSampler {
+        private final double[] cumulative;
+
+        private ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        private int next(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int slot = index >= 0 ? index : -index - 1;
+            return Math.min(slot, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hrm.config;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * Representations the API can produce for its DTOs. Clients pick one with the Accept header;
+ * JSON is the default. Each format has its own ETag suffix, since a strong ETag identifies one
+ * exact byte sequence.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON, ""),
+    CBOR(MediaType.APPLICATION_CBOR, "+cbor"),
+    SMILE(new MediaType("application", "x-jackson-smile"), "+smile");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    WireFormat(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Appends this format's suffix inside the quotes of {@code etag}.
+     */
+    public String tag(String etag) {
+        if (etagSuffix.isEmpty()) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + etagSuffix + "\"";
+    }
+
+    /**
+     * Starts a 200 response in this format, tagged with {@link #tag(String) this format's ETag}.
+     */
+    public ResponseEntity.BodyBuilder ok(String taggedEtag, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .eTag(taggedEtag)
+                .cacheControl(cacheControl)
+                .contentType(mediaType)
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * Picks the format for an Accept header the same way Spring MVC ranks media types: most
+     * specific and highest quality first, with wildcards resolving to JSON.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (WireFormat format : values()) {
+                if (type.equalsTypeAndSubtype(format.mediaType)) {
+                    return format;
+                }
+            }
+            if (type.isWildcardType() || type.isWildcardSubtype() && JSON.mediaType.isCompatibleWith(type)) {
+                return JSON;
+            }
+        }
+        return JSON;
+    }
+}
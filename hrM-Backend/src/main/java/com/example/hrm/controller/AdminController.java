@@ -0,0 +1,66 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.dto.CacheStatsDto;
+import com.example.hrm.dto.CoalescingStatsDto;
+import com.example.hrm.dto.ResponseCacheStatsDto;
+import com.example.hrm.dto.SlowRequestDto;
+import com.example.hrm.service.CustomUserDetailsService;
+import com.example.hrm.service.JwtService;
+import com.example.hrm.service.RequestCoalescer;
+import com.example.hrm.service.ResponseBodyCache;
+import com.example.hrm.service.SecondLevelCacheStats;
+import com.example.hrm.service.SlowRequestLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtService jwtService;
+    private final ResponseBodyCache responseBodyCache;
+    private final RequestCoalescer requestCoalescer;
+    private final SlowRequestLog slowRequestLog;
+    private final SecondLevelCacheStats secondLevelCacheStats;
+
+    @Autowired
+    public AdminController(CustomUserDetailsService userDetailsService, JwtService jwtService,
+                           ResponseBodyCache responseBodyCache, RequestCoalescer requestCoalescer,
+                           SlowRequestLog slowRequestLog, SecondLevelCacheStats secondLevelCacheStats) {
+        this.userDetailsService = userDetailsService;
+        this.jwtService = jwtService;
+        this.responseBodyCache = responseBodyCache;
+        this.requestCoalescer = requestCoalescer;
+        this.slowRequestLog = slowRequestLog;
+        this.secondLevelCacheStats = secondLevelCacheStats;
+    }
+
+    @GetMapping("/caches")
+    public List<CacheStatsDto> getCacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>(List.of(userDetailsService.cacheStats(),
+                jwtService.cacheStats(), responseBodyCache.cacheStats()));
+        stats.addAll(secondLevelCacheStats.cacheStats());
+        return stats;
+    }
+
+    @GetMapping("/response-cache")
+    public ResponseCacheStatsDto getResponseCacheStats() {
+        return responseBodyCache.stats();
+    }
+
+    @GetMapping("/coalescing")
+    public CoalescingStatsDto getCoalescingStats() {
+        return requestCoalescer.stats();
+    }
+
+    @GetMapping("/slow-requests")
+    public List<SlowRequestDto> getSlowRequests() {
+        return slowRequestLog.recent();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.dto.SalaryHistogramDto;
+import com.example.hrm.dto.SalaryPercentilesDto;
+import com.example.hrm.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin
+public class AnalyticsController {
+    private final AnalyticsService analyticsService;
+
+    @Autowired
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/salary-histogram")
+    public SalaryHistogramDto getSalaryHistogram(@RequestParam(required = false) Long departmentId,
+                                                 @RequestParam(required = false) Long roleId,
+                                                 @RequestParam(defaultValue = "10") int buckets) {
+        return analyticsService.getSalaryHistogram(departmentId, roleId, buckets);
+    }
+
+    @GetMapping("/salary-percentiles")
+    public SalaryPercentilesDto getSalaryPercentiles(@RequestParam(required = false) Long departmentId,
+                                                     @RequestParam(required = false) Long roleId,
+                                                     @RequestParam(defaultValue = "50,90,99") List<Double> p) {
+        return analyticsService.getSalaryPercentiles(departmentId, roleId, p);
+    }
+
+    @GetMapping("/group-by/{dimension}")
+    public List<GroupStatsDto> groupBy(@PathVariable String dimension,
+                                       @RequestParam(required = false) Long departmentId,
+                                       @RequestParam(required = false) Long roleId) {
+        return analyticsService.groupBy(dimension, departmentId, roleId);
+    }
+}
@@ -4,7 +4,9 @@ import com.example.hrm.dto.AuthRequest;
 import com.example.hrm.dto.AuthResponse;
 import com.example.hrm.model.User;
 import com.example.hrm.repo.UserRepository;
+import com.example.hrm.service.CustomUserDetailsService;
 import com.example.hrm.service.JwtService;
+import com.example.hrm.service.TokenVersionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -27,14 +29,19 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final TokenVersionService tokenVersionService;
+    private final CustomUserDetailsService userDetailsService;
 
     @Autowired
     public AuthController(AuthenticationManager authenticationManager, UserRepository userRepository, 
-                         PasswordEncoder passwordEncoder, JwtService jwtService) {
+                         PasswordEncoder passwordEncoder, JwtService jwtService,
+                         TokenVersionService tokenVersionService, CustomUserDetailsService userDetailsService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.tokenVersionService = tokenVersionService;
+        this.userDetailsService = userDetailsService;
     }
 
     @PostMapping("/login")
@@ -48,7 +55,7 @@ public class AuthController {
             );
 
             User user = (User) authentication.getPrincipal();
-            String token = jwtService.generateToken(user.getUsername());
+            String token = jwtService.generateToken(user);
 
             return ResponseEntity.ok(AuthResponse.success(token));
         } catch (Exception e) {
@@ -73,7 +80,8 @@ public class AuthController {
             );
 
             userRepository.save(user);
-            String token = jwtService.generateToken(user.getUsername());
+            userDetailsService.evict(user.getUsername());
+            String token = jwtService.generateToken(user);
 
             return ResponseEntity.ok(AuthResponse.success(token));
         } catch (Exception e) {
@@ -91,9 +99,11 @@ public class AuthController {
                 return ResponseEntity.status(401).body(Map.of("error", "Not authenticated"));
             }
 
-            String username = authentication.getName();
-            User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            // The filter already resolved the user (from the database or from the token claims)
+            User user = authentication.getPrincipal() instanceof User principal
+                ? principal
+                : userRepository.findByUsername(authentication.getName())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
 
             Map<String, Object> userInfo = new HashMap<>();
             userInfo.put("username", user.getUsername());
@@ -105,4 +115,14 @@ public class AuthController {
             return ResponseEntity.status(500).body(Map.of("error", "Failed to get user info"));
         }
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return ResponseEntity.status(401).body(Map.of("error", "Not authenticated"));
+        }
+        tokenVersionService.revoke(user.getUsername());
+        return ResponseEntity.noContent().build();
+    }
 } 
\ No newline at end of file
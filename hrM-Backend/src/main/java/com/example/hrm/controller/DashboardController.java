@@ -0,0 +1,23 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.dto.DashboardSummaryDto;
+import com.example.hrm.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    @Autowired
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("/summary")
+    public DashboardSummaryDto getSummary() {
+        return dashboardService.getSummary();
+    }
+}
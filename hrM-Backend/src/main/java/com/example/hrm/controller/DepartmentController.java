@@ -2,35 +2,58 @@ package com.example.hrm.controller;
 
 
 
+import com.example.hrm.config.WireFormat;
 import com.example.hrm.dto.DepartmentDto;
+import com.example.hrm.service.CollectionVersions;
+import com.example.hrm.service.ResponseBodyCache;
 import com.example.hrm.service.DepartmentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/departments")
 @CrossOrigin
 public class DepartmentController {
+    // Clients may store responses but must revalidate them with If-None-Match before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final DepartmentService departmentService;
+    private final CollectionVersions collectionVersions;
+    private final ResponseBodyCache responseBodyCache;
 
     @Autowired
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, CollectionVersions collectionVersions,
+                                ResponseBodyCache responseBodyCache) {
         this.departmentService = departmentService;
+        this.collectionVersions = collectionVersions;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @GetMapping
-    public List<DepartmentDto> getAllDepartments() {
-        return departmentService.getAllDepartments();
+    public ResponseEntity<byte[]> getAllDepartments(WebRequest request) {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = format.tag(collectionVersions.etag(CollectionVersions.Collection.DEPARTMENTS));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return responseBodyCache.respond("departments", format, etag, REVALIDATE,
+                request.getHeader(HttpHeaders.ACCEPT_ENCODING), departmentService::getAllDepartments);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentDto> getDepartmentById(@PathVariable Long id) {
-        return ResponseEntity.ok(departmentService.getDepartmentById(id));
+    public ResponseEntity<DepartmentDto> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = format.tag(collectionVersions.etag(CollectionVersions.Collection.DEPARTMENTS));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return format.ok(etag, REVALIDATE).body(departmentService.getDepartmentById(id));
     }
 
     @PostMapping
@@ -1,35 +1,125 @@
 package com.example.hrm.controller;
 
 
+import com.example.hrm.config.WireFormat;
+import com.example.hrm.dto.BulkCreateResultDto;
 import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.EmployeeSearchCriteria;
+import com.example.hrm.dto.EmployeeSuggestionDto;
+import com.example.hrm.repo.EmployeeField;
+import com.example.hrm.service.CollectionVersions;
+import com.example.hrm.service.EmployeeExportService;
 import com.example.hrm.service.EmployeeService;
+import com.example.hrm.service.EmployeeSuggestIndex;
+import com.example.hrm.service.QueryBudget;
+import com.example.hrm.service.ResponseBodyCache;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/employees")
 @CrossOrigin
 public class EmployeeController {
+    // Clients may store responses but must revalidate them with If-None-Match before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeSuggestIndex employeeSuggestIndex;
+    private final CollectionVersions collectionVersions;
+    private final ResponseBodyCache responseBodyCache;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeExportService employeeExportService,
+                              EmployeeSuggestIndex employeeSuggestIndex, CollectionVersions collectionVersions,
+                              ResponseBodyCache responseBodyCache) {
         this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeSuggestIndex = employeeSuggestIndex;
+        this.collectionVersions = collectionVersions;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @GetMapping
-    public List<EmployeeDto> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    public ResponseEntity<?> getAllEmployees(@RequestParam(required = false) Integer limit,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) String sort,
+                                             @RequestParam(required = false) String fields,
+                                             WebRequest request) {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = format.tag(collectionVersions.employeesEtag());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String fieldsKey = fields == null ? null : EmployeeField.canonical(fields);
+        if (limit == null && cursor == null && sort == null) {
+            String key = fields == null ? "employees" : "employees?fields=" + fieldsKey;
+            Supplier<Object> all = () -> fields == null
+                    ? employeeService.getAllEmployees()
+                    : employeeService.getEmployeeFields(fields);
+            return responseBodyCache.respond(key, format, etag, REVALIDATE, acceptEncoding, all);
+        }
+        Supplier<Object> page = () -> fields == null
+                ? employeeService.getEmployeePage(sort, cursor, limit)
+                : employeeService.searchEmployeeFields(null, fields, sort, cursor, limit);
+        if (cursor == null) {
+            // First pages are what list views open with; later pages are left uncached
+            String key = "employees?" + employeeService.firstPageKey(sort, limit) + "&fields=" + fieldsKey;
+            return responseBodyCache.respond(key, format, etag, REVALIDATE, acceptEncoding, page);
+        }
+        return format.ok(etag, REVALIDATE).body(page.get());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchEmployees(EmployeeSearchCriteria criteria,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) String sort,
+                                             @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(employeeService.searchEmployeeFields(criteria, fields, sort, cursor, limit));
+        }
+        return ResponseEntity.ok(employeeService.searchEmployees(criteria, sort, cursor, limit));
+    }
+
+    @GetMapping("/suggest")
+    public List<EmployeeSuggestionDto> suggestEmployees(@RequestParam String q,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        return employeeSuggestIndex.suggest(q, Math.min(limit, 50));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public void exportEmployees(@RequestParam(defaultValue = "ndjson") String format,
+                                HttpServletResponse response) throws IOException {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"employees." + exportFormat.getExtension() + "\"");
+        employeeExportService.export(exportFormat, response.getOutputStream());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable Long id, WebRequest request) {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = format.tag(collectionVersions.employeesEtag());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return format.ok(etag, REVALIDATE).body(employeeService.getEmployeeById(id));
     }
 
     @PostMapping
@@ -38,6 +128,15 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(dto));
     }
 
+    // Statements grow with the number of rows (an id block and an insert batch per 50), so the
+    // request only gets the repeated-select check
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    @QueryBudget(-1)
+    public ResponseEntity<BulkCreateResultDto> createEmployees(@RequestBody List<EmployeeDto> dtos) {
+        return ResponseEntity.ok(employeeService.createEmployees(dtos));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
     public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeDto dto) {
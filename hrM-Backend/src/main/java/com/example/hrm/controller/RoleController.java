@@ -1,35 +1,58 @@
 package com.example.hrm.controller;
 
 
+import com.example.hrm.config.WireFormat;
 import com.example.hrm.dto.RoleDto;
+import com.example.hrm.service.CollectionVersions;
+import com.example.hrm.service.ResponseBodyCache;
 import  com.example.hrm.service.RoleService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/roles")
 @CrossOrigin
 public class RoleController {
+    // Clients may store responses but must revalidate them with If-None-Match before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final RoleService roleService;
+    private final CollectionVersions collectionVersions;
+    private final ResponseBodyCache responseBodyCache;
 
     @Autowired
-    public RoleController(RoleService roleService) {
+    public RoleController(RoleService roleService, CollectionVersions collectionVersions,
+                          ResponseBodyCache responseBodyCache) {
         this.roleService = roleService;
+        this.collectionVersions = collectionVersions;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @GetMapping
-    public List<RoleDto> getAllRoles() {
-        return roleService.getAllRoles();
+    public ResponseEntity<byte[]> getAllRoles(WebRequest request) {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = format.tag(collectionVersions.etag(CollectionVersions.Collection.ROLES));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return responseBodyCache.respond("roles", format, etag, REVALIDATE,
+                request.getHeader(HttpHeaders.ACCEPT_ENCODING), roleService::getAllRoles);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<RoleDto> getRoleById(@PathVariable Long id) {
-        return ResponseEntity.ok(roleService.getRoleById(id));
+    public ResponseEntity<RoleDto> getRoleById(@PathVariable Long id, WebRequest request) {
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = format.tag(collectionVersions.etag(CollectionVersions.Collection.ROLES));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return format.ok(etag, REVALIDATE).body(roleService.getRoleById(id));
     }
 
     @PostMapping
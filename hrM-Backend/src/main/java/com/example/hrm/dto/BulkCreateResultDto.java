@@ -0,0 +1,108 @@
+package com.example.hrm.dto;
+
+import java.util.List;
+
+public class BulkCreateResultDto {
+    private int requested;
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RowResult> results;
+
+    public BulkCreateResultDto() {
+    }
+
+    public BulkCreateResultDto(int requested, int created, int failed, long elapsedMillis,
+                               double rowsPerSecond, List<RowResult> results) {
+        this.requested = requested;
+        this.created = created;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.results = results;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<RowResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<RowResult> results) {
+        this.results = results;
+    }
+
+    // Outcome of one input row, reported at the row's position in the request array
+    public static class RowResult {
+        private int index;
+        private String status;
+        private Long id;
+        private String error;
+
+        public RowResult(int index, String status, Long id, String error) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.error = error;
+        }
+
+        public static RowResult created(int index, Long id) {
+            return new RowResult(index, "CREATED", id, null);
+        }
+
+        public static RowResult failed(int index, String error) {
+            return new RowResult(index, "FAILED", null, error);
+        }
+
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
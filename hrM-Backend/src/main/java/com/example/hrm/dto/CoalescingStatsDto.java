@@ -0,0 +1,60 @@
+package com.example.hrm.dto;
+
+public class CoalescingStatsDto {
+    private long calls;
+    private long executions;
+    private long collapsed;
+    private long timeouts;
+    private int inFlight;
+
+    public CoalescingStatsDto() {
+    }
+
+    public CoalescingStatsDto(long calls, long executions, long collapsed, long timeouts, int inFlight) {
+        this.calls = calls;
+        this.executions = executions;
+        this.collapsed = collapsed;
+        this.timeouts = timeouts;
+        this.inFlight = inFlight;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public long getCollapsed() {
+        return collapsed;
+    }
+
+    public void setCollapsed(long collapsed) {
+        this.collapsed = collapsed;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(long timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+}
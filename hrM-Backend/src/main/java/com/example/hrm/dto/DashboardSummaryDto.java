@@ -0,0 +1,73 @@
+package com.example.hrm.dto;
+
+import java.util.List;
+
+public class DashboardSummaryDto {
+    private long employeeCount;
+    private long departmentCount;
+    private long roleCount;
+    private double totalSalary;
+    private List<GroupStatsDto> departments;
+    private List<GroupStatsDto> roles;
+
+    public DashboardSummaryDto() {
+    }
+
+    public DashboardSummaryDto(long employeeCount, long departmentCount, long roleCount, double totalSalary,
+                               List<GroupStatsDto> departments, List<GroupStatsDto> roles) {
+        this.employeeCount = employeeCount;
+        this.departmentCount = departmentCount;
+        this.roleCount = roleCount;
+        this.totalSalary = totalSalary;
+        this.departments = departments;
+        this.roles = roles;
+    }
+
+    public long getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public void setEmployeeCount(long employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+
+    public long getDepartmentCount() {
+        return departmentCount;
+    }
+
+    public void setDepartmentCount(long departmentCount) {
+        this.departmentCount = departmentCount;
+    }
+
+    public long getRoleCount() {
+        return roleCount;
+    }
+
+    public void setRoleCount(long roleCount) {
+        this.roleCount = roleCount;
+    }
+
+    public double getTotalSalary() {
+        return totalSalary;
+    }
+
+    public void setTotalSalary(double totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+
+    public List<GroupStatsDto> getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(List<GroupStatsDto> departments) {
+        this.departments = departments;
+    }
+
+    public List<GroupStatsDto> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<GroupStatsDto> roles) {
+        this.roles = roles;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.hrm.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeFieldsPageDto {
+    private List<Map<String, Object>> items;
+    private String nextCursor;
+
+    public EmployeeFieldsPageDto() {
+    }
+
+    public EmployeeFieldsPageDto(List<Map<String, Object>> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Map<String, Object>> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hrm.dto;
+
+import java.util.List;
+
+public class EmployeePageDto {
+    private List<EmployeeDto> items;
+    private String nextCursor;
+
+    public EmployeePageDto() {
+    }
+
+    public EmployeePageDto(List<EmployeeDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EmployeeDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hrm.dto;
+
+public class GroupStatsDto {
+    private Long id;
+    private String name;
+    private long headcount;
+    private double totalSalary;
+    private Double averageSalary;
+    private Double minSalary;
+    private Double maxSalary;
+
+    public GroupStatsDto() {
+    }
+
+    public GroupStatsDto(Long id, String name, Long headcount, Double totalSalary,
+                         Double averageSalary, Double minSalary, Double maxSalary) {
+        this.id = id;
+        this.name = name;
+        this.headcount = headcount != null ? headcount : 0;
+        this.totalSalary = totalSalary != null ? totalSalary : 0.0;
+        this.averageSalary = averageSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getHeadcount() {
+        return headcount;
+    }
+
+    public void setHeadcount(long headcount) {
+        this.headcount = headcount;
+    }
+
+    public double getTotalSalary() {
+        return totalSalary;
+    }
+
+    public void setTotalSalary(double totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+
+    public Double getAverageSalary() {
+        return averageSalary;
+    }
+
+    public void setAverageSalary(Double averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+
+    public Double getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Double minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Double maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hrm.dto;
+
+public class ResponseCacheStatsDto {
+    private long entries;
+    private long cachedBytes;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long bytesServed;
+    private long gzipBytesServed;
+
+    public ResponseCacheStatsDto() {
+    }
+
+    public ResponseCacheStatsDto(long entries, long cachedBytes, long hits, long misses, double hitRate,
+                                 long bytesServed, long gzipBytesServed) {
+        this.entries = entries;
+        this.cachedBytes = cachedBytes;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.bytesServed = bytesServed;
+        this.gzipBytesServed = gzipBytesServed;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public void setEntries(long entries) {
+        this.entries = entries;
+    }
+
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public void setCachedBytes(long cachedBytes) {
+        this.cachedBytes = cachedBytes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getBytesServed() {
+        return bytesServed;
+    }
+
+    public void setBytesServed(long bytesServed) {
+        this.bytesServed = bytesServed;
+    }
+
+    public long getGzipBytesServed() {
+        return gzipBytesServed;
+    }
+
+    public void setGzipBytesServed(long gzipBytesServed) {
+        this.gzipBytesServed = gzipBytesServed;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.hrm.dto;
+
+public class SalaryHistogramDto {
+    private long count;
+    private Double min;
+    private Double max;
+    private double bucketWidth;
+    private long[] buckets;
+
+    public SalaryHistogramDto() {
+    }
+
+    public SalaryHistogramDto(long count, Double min, Double max, double bucketWidth, long[] buckets) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.bucketWidth = bucketWidth;
+        this.buckets = buckets;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public void setMin(Double min) {
+        this.min = min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public double getBucketWidth() {
+        return bucketWidth;
+    }
+
+    public void setBucketWidth(double bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+
+    public long[] getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(long[] buckets) {
+        this.buckets = buckets;
+    }
+}
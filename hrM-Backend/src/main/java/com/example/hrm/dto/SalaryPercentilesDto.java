@@ -0,0 +1,32 @@
+package com.example.hrm.dto;
+
+import java.util.Map;
+
+public class SalaryPercentilesDto {
+    private long count;
+    private Map<String, Double> percentiles;
+
+    public SalaryPercentilesDto() {
+    }
+
+    public SalaryPercentilesDto(long count, Map<String, Double> percentiles) {
+        this.count = count;
+        this.percentiles = percentiles;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Map<String, Double> getPercentiles() {
+        return percentiles;
+    }
+
+    public void setPercentiles(Map<String, Double> percentiles) {
+        this.percentiles = percentiles;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.hrm.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class SlowRequestDto {
+    private LocalDateTime timestamp;
+    private String method;
+    private String path;
+    private int status;
+    private double totalMs;
+    private int statements;
+    private Map<String, Double> phasesMs;
+
+    public SlowRequestDto() {
+    }
+
+    public SlowRequestDto(LocalDateTime timestamp, String method, String path, int status, double totalMs,
+                          int statements, Map<String, Double> phasesMs) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.status = status;
+        this.totalMs = totalMs;
+        this.statements = statements;
+        this.phasesMs = phasesMs;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public double getTotalMs() {
+        return totalMs;
+    }
+
+    public void setTotalMs(double totalMs) {
+        this.totalMs = totalMs;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public void setStatements(int statements) {
+        this.statements = statements;
+    }
+
+    public Map<String, Double> getPhasesMs() {
+        return phasesMs;
+    }
+
+    public void setPhasesMs(Map<String, Double> phasesMs) {
+        this.phasesMs = phasesMs;
+    }
+}
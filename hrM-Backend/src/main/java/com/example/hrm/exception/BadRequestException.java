@@ -0,0 +1,12 @@
+package com.example.hrm.exception;
+
+// A request parameter the API cannot act on (unknown sort, field or format, malformed cursor, ...)
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
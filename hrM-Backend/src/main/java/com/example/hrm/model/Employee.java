@@ -1,5 +1,6 @@
 package com.example.hrm.model;
 
+import com.example.hrm.service.EmployeeSuggestListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
@@ -7,12 +8,26 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
+// Each search filter and keyset sort is served by an index range scan. The (hire_date, id) and
+// (salary, id) indexes also back keyset pagination on those columns.
 @Entity
-@Table(name = "employees")
+@EntityListeners(EmployeeSuggestListener.class)
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_department", columnList = "department_id"),
+        @Index(name = "idx_employees_role", columnList = "role_id"),
+        @Index(name = "idx_employees_hire_date", columnList = "hire_date, id"),
+        @Index(name = "idx_employees_salary", columnList = "salary, id"),
+        @Index(name = "idx_employees_last_name_lower", columnList = "last_name_lower"),
+        @Index(name = "idx_employees_email_lower", columnList = "email_lower")
+})
 public class Employee {
+    // Pooled sequence ids are assigned without a round trip per insert, which lets Hibernate
+    // batch inserts (IDENTITY forces one executed statement per row).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -23,11 +38,20 @@ public class Employee {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
+    // Lower-cased copy of lastName for case-insensitive prefix search. JPA cannot declare an index
+    // on lower(last_name), so the normalized value is stored and indexed instead.
+    @Column(name = "last_name_lower")
+    private String lastNameLower;
+
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     @Column(nullable = false, unique = true)
     private String email;
 
+    // Lower-cased copy of email for case-insensitive prefix search, like lastNameLower
+    @Column(name = "email_lower")
+    private String emailLower;
+
     @NotBlank(message = "Phone is required")
     @Column(nullable = false)
     private String phone;
@@ -77,6 +101,13 @@ public class Employee {
         this.role = role;
     }
 
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchColumns() {
+        lastNameLower = lastName != null ? lastName.toLowerCase(Locale.ROOT) : null;
+        emailLower = email != null ? email.toLowerCase(Locale.ROOT) : null;
+    }
+
     public Long getId() {
         return id;
     }
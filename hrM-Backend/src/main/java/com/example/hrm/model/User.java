@@ -3,19 +3,23 @@ package com.example.hrm.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Entity
 @Table(name = "users")
 public class User implements UserDetails {
     
+    // Pooled sequence ids, as on Employee, so the synthetic seed's user inserts are batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Username is required")
@@ -37,6 +41,11 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private boolean enabled = true;
 
+    // Embedded in issued tokens and bumped to revoke them; see TokenVersionService
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     public User() {
     }
 
@@ -57,6 +66,15 @@ public class User implements UserDetails {
         this.enabled = enabled;
     }
 
+    // A new account starts at a random version, so tokens issued to an earlier account with the same
+    // username (before the users table was reseeded) do not match it
+    @PrePersist
+    void assignTokenVersion() {
+        if (tokenVersion == 0) {
+            tokenVersion = ThreadLocalRandom.current().nextInt(1, 1 << 30);
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -93,6 +111,10 @@ public class User implements UserDetails {
         this.enabled = enabled;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     // UserDetails implementation
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,69 @@
+package com.example.hrm.repo;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page, encoded for clients as an opaque URL-safe token.
+ * The next page is read with a keyset predicate on (sort value, id) instead of an OFFSET,
+ * so the cost of a page does not grow with its depth.
+ */
+public class EmployeeCursor {
+    private static final String VERSION = "v1";
+
+    private final EmployeeSort sort;
+    private final boolean descending;
+    private final Object value;
+    private final Long id;
+
+    public EmployeeCursor(EmployeeSort sort, boolean descending, Object value, Long id) {
+        this.sort = sort;
+        this.descending = descending;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static EmployeeCursor after(EmployeeSort sort, boolean descending, EmployeeDto last) {
+        return new EmployeeCursor(sort, descending, sort.valueOf(last), last.getId());
+    }
+
+    public EmployeeSort getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sort.name(), descending ? "desc" : "asc",
+                String.valueOf(id), String.valueOf(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            EmployeeSort sort = EmployeeSort.valueOf(parts[1]);
+            boolean descending = "desc".equals(parts[2]);
+            return new EmployeeCursor(sort, descending, sort.parseValue(parts[4]), Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
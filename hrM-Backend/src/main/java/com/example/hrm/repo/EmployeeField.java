@@ -0,0 +1,70 @@
+package com.example.hrm.repo;
+
+import com.example.hrm.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Employee properties that can be requested individually with {@code fields=}. Names match the
+ * properties of EmployeeDto so sparse and full representations use the same keys.
+ */
+public enum EmployeeField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    PHONE("phone"),
+    HIRE_DATE("hireDate"),
+    SALARY("salary"),
+    DEPARTMENT_ID("departmentId"),
+    DEPARTMENT_NAME("departmentName"),
+    ROLE_ID("roleId"),
+    ROLE_NAME("roleName");
+
+    private final String name;
+
+    EmployeeField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static EmployeeField fromName(String name) {
+        for (EmployeeField field : values()) {
+            if (field.name.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unsupported field: " + name);
+    }
+
+    /**
+     * Parses a comma-separated field list, keeping the caller's order and dropping duplicates.
+     */
+    public static List<EmployeeField> parseList(String fields) {
+        Set<EmployeeField> parsed = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                parsed.add(fromName(name.trim()));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new BadRequestException("fields must name at least one field");
+        }
+        return new ArrayList<>(parsed);
+    }
+
+    /**
+     * The field list as {@link #parseList} reads it, spelled canonically, so that lists differing
+     * only in case, spacing or repeats share one response cache entry.
+     */
+    public static String canonical(String fields) {
+        return parseList(fields).stream().map(EmployeeField::getName).collect(Collectors.joining(","));
+    }
+}
@@ -1,6 +1,69 @@
 package com.example.hrm.repo;
 
-
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.EmployeeSuggestionDto;
+import com.example.hrm.dto.GroupStatsDto;
 import com.example.hrm.model.Employee;
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {}
\ No newline at end of file
+import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    // Read paths project straight into EmployeeDto with one joined select, so listing N employees
+    // never initializes the lazy department/role proxies one row at a time.
+    String DTO_SELECT = "select new com.example.hrm.dto.EmployeeDto("
+            + "e.id, e.firstName, e.lastName, e.email, e.phone, e.hireDate, e.salary, "
+            + "d.id, d.name, r.id, r.name) "
+            + "from Employee e join e.department d join e.role r";
+
+    @Query(DTO_SELECT + " order by e.id")
+    List<EmployeeDto> findAllDtos();
+
+    @Query(DTO_SELECT + " where e.id = :id")
+    Optional<EmployeeDto> findDtoById(@Param("id") Long id);
+
+    // Aggregates are computed in the database; departments and roles without employees are included.
+    @Query("select new com.example.hrm.dto.GroupStatsDto("
+            + "d.id, d.name, count(e), sum(e.salary), avg(e.salary), min(e.salary), max(e.salary)) "
+            + "from Department d left join Employee e on e.department = d "
+            + "group by d.id, d.name order by d.name")
+    List<GroupStatsDto> summarizeByDepartment();
+
+    @Query("select new com.example.hrm.dto.GroupStatsDto("
+            + "r.id, r.name, count(e), sum(e.salary), avg(e.salary), min(e.salary), max(e.salary)) "
+            + "from Role r left join Employee e on e.role = r "
+            + "group by r.id, r.name order by r.name")
+    List<GroupStatsDto> summarizeByRole();
+
+    @Query("select new com.example.hrm.dto.GroupStatsDto("
+            + "d.id, d.name, count(e), sum(e.salary), avg(e.salary), min(e.salary), max(e.salary)) "
+            + "from Employee e join e.department d where d.id = :id group by d.id, d.name")
+    Optional<GroupStatsDto> summarizeDepartment(@Param("id") Long id);
+
+    @Query("select new com.example.hrm.dto.GroupStatsDto("
+            + "r.id, r.name, count(e), sum(e.salary), avg(e.salary), min(e.salary), max(e.salary)) "
+            + "from Employee e join e.role r where r.id = :id group by r.id, r.name")
+    Optional<GroupStatsDto> summarizeRole(@Param("id") Long id);
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Must be consumed inside a transaction and closed by the caller.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + " order by e.id")
+    Stream<EmployeeDto> streamAllDtos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.hrm.dto.EmployeeSuggestionDto(e.id, e.firstName, e.lastName, e.email) "
+            + "from Employee e order by e.id")
+    Stream<EmployeeSuggestionDto> streamAllSuggestions();
+}
@@ -0,0 +1,25 @@
+package com.example.hrm.repo;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.EmployeeSearchCriteria;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface EmployeeRepositoryCustom {
+    /**
+     * Reads up to {@code limit} employees matching {@code criteria} (all employees when null),
+     * ordered by {@code sort} (then id) and starting strictly after {@code after} when it is given.
+     */
+    List<EmployeeDto> findPage(EmployeeSearchCriteria criteria, EmployeeSort sort, boolean descending,
+                               EmployeeCursor after, int limit);
+
+    /**
+     * Same as {@link #findPage} but selects only {@code fields}, joining departments and roles only
+     * when their names are requested. Rows are returned as maps keyed by field name in the order
+     * given; {@code limit} may be null to read every matching row.
+     */
+    List<Map<String, Object>> findFields(Collection<EmployeeField> fields, EmployeeSearchCriteria criteria,
+                                         EmployeeSort sort, boolean descending, EmployeeCursor after, Integer limit);
+}
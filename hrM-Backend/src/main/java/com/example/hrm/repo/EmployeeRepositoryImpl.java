@@ -0,0 +1,173 @@
+package com.example.hrm.repo;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.EmployeeSearchCriteria;
+import com.example.hrm.model.Department;
+import com.example.hrm.model.Employee;
+import com.example.hrm.model.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EmployeeDto> findPage(EmployeeSearchCriteria criteria, EmployeeSort sort, boolean descending,
+                                      EmployeeCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeDto> query = cb.createQuery(EmployeeDto.class);
+        Root<Employee> employee = query.from(Employee.class);
+        Join<Employee, Department> department = employee.join("department");
+        Join<Employee, Role> role = employee.join("role");
+        query.select(cb.construct(EmployeeDto.class,
+                employee.get("id"), employee.get("firstName"), employee.get("lastName"),
+                employee.get("email"), employee.get("phone"), employee.get("hireDate"), employee.get("salary"),
+                department.get("id"), department.get("name"), role.get("id"), role.get("name")));
+        restrict(cb, query, employee, criteria, sort, descending, after);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(Collection<EmployeeField> fields, EmployeeSearchCriteria criteria,
+                                                EmployeeSort sort, boolean descending, EmployeeCursor after,
+                                                Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+        Join<Employee, Department> department = fields.contains(EmployeeField.DEPARTMENT_NAME)
+                ? employee.join("department") : null;
+        Join<Employee, Role> role = fields.contains(EmployeeField.ROLE_NAME) ? employee.join("role") : null;
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (EmployeeField field : fields) {
+            Path<?> path = switch (field) {
+                case ID -> employee.get("id");
+                case FIRST_NAME -> employee.get("firstName");
+                case LAST_NAME -> employee.get("lastName");
+                case EMAIL -> employee.get("email");
+                case PHONE -> employee.get("phone");
+                case HIRE_DATE -> employee.get("hireDate");
+                case SALARY -> employee.get("salary");
+                // The foreign key columns are read from the employees table without a join
+                case DEPARTMENT_ID -> employee.get("department").get("id");
+                case DEPARTMENT_NAME -> department.get("name");
+                case ROLE_ID -> employee.get("role").get("id");
+                case ROLE_NAME -> role.get("name");
+            };
+            selections.add(path.alias(field.getName()));
+        }
+        query.multiselect(selections);
+        restrict(cb, query, employee, criteria, sort, descending, after);
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (limit != null) {
+            typed.setMaxResults(limit);
+        }
+        List<Tuple> tuples = typed.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (EmployeeField field : fields) {
+                row.put(field.getName(), tuple.get(field.getName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Applies the filters, the keyset position and the (key, id) ordering shared by every page query.
+    private void restrict(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Employee> employee,
+                          EmployeeSearchCriteria criteria, EmployeeSort sort, boolean descending,
+                          EmployeeCursor after) {
+        Path<Long> id = employee.get("id");
+        Path<Comparable<Object>> key = employee.get(sort.getAttribute());
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria != null) {
+            addFilters(cb, employee, criteria, predicates);
+        }
+        if (after != null) {
+            predicates.add(keysetPredicate(cb, key, id, after, descending));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        if (descending) {
+            query.orderBy(cb.desc(key), cb.desc(id));
+        } else {
+            query.orderBy(cb.asc(key), cb.asc(id));
+        }
+    }
+
+    private void addFilters(CriteriaBuilder cb, Root<Employee> employee, EmployeeSearchCriteria criteria,
+                            List<Predicate> predicates) {
+        if (criteria.getDepartmentId() != null) {
+            predicates.add(cb.equal(employee.get("department").get("id"), criteria.getDepartmentId()));
+        }
+        if (criteria.getRoleId() != null) {
+            predicates.add(cb.equal(employee.get("role").get("id"), criteria.getRoleId()));
+        }
+        if (criteria.getHiredFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(employee.<LocalDate>get("hireDate"), criteria.getHiredFrom()));
+        }
+        if (criteria.getHiredTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(employee.<LocalDate>get("hireDate"), criteria.getHiredTo()));
+        }
+        if (criteria.getMinSalary() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(employee.<Double>get("salary"), criteria.getMinSalary()));
+        }
+        if (criteria.getMaxSalary() != null) {
+            predicates.add(cb.lessThanOrEqualTo(employee.<Double>get("salary"), criteria.getMaxSalary()));
+        }
+        if (criteria.getName() != null && !criteria.getName().isBlank()) {
+            predicates.add(cb.like(employee.get("lastNameLower"), prefixPattern(criteria.getName()), '\\'));
+        }
+        if (criteria.getEmail() != null && !criteria.getEmail().isBlank()) {
+            predicates.add(cb.like(employee.get("emailLower"), prefixPattern(criteria.getEmail()), '\\'));
+        }
+    }
+
+    // A LIKE pattern anchored at the start can use the index on the column; wildcards typed by the
+    // caller are escaped so they match literally.
+    private static String prefixPattern(String prefix) {
+        String escaped = prefix.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate keysetPredicate(CriteriaBuilder cb, Path<Comparable<Object>> key, Path<Long> id,
+                                      EmployeeCursor after, boolean descending) {
+        Comparable<Object> value = (Comparable<Object>) after.getValue();
+        if (after.getSort() == EmployeeSort.ID) {
+            return descending ? cb.lessThan(id, after.getId()) : cb.greaterThan(id, after.getId());
+        }
+        Predicate beyondKey = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+        Predicate sameKeyBeyondId = cb.and(
+                cb.equal(key, value),
+                descending ? cb.lessThan(id, after.getId()) : cb.greaterThan(id, after.getId()));
+        return cb.or(beyondKey, sameKeyBeyondId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.hrm.repo;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Sort keys supported by keyset pagination over employees. Every key is paired with the
+ * employee id as a tie-breaker so that the ordering is total and a cursor identifies a
+ * unique position.
+ */
+public enum EmployeeSort {
+    ID("id", EmployeeDto::getId, Long::valueOf),
+    LAST_NAME("lastName", EmployeeDto::getLastName, s -> s),
+    HIRE_DATE("hireDate", EmployeeDto::getHireDate, LocalDate::parse),
+    SALARY("salary", EmployeeDto::getSalary, Double::valueOf);
+
+    private final String attribute;
+    private final Function<EmployeeDto, Object> extractor;
+    private final Function<String, Object> parser;
+
+    EmployeeSort(String attribute, Function<EmployeeDto, Object> extractor, Function<String, Object> parser) {
+        this.attribute = attribute;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public Object valueOf(EmployeeDto dto) {
+        return extractor.apply(dto);
+    }
+
+    public Object parseValue(String value) {
+        return parser.apply(value);
+    }
+
+    public static EmployeeSort fromAttribute(String attribute) {
+        for (EmployeeSort sort : values()) {
+            if (sort.attribute.equalsIgnoreCase(attribute)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("Unsupported sort field: " + attribute);
+    }
+}
@@ -1,5 +1,17 @@
 package com.example.hrm.repo;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import com.example.hrm.model.Role;
-public interface RoleRepository extends JpaRepository<Role, Long> {}
\ No newline at end of file
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface RoleRepository extends JpaRepository<Role, Long> {
+
+    // Served from the query cache until a role is written
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Role> findAll();
+}
@@ -0,0 +1,64 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.dto.SalaryHistogramDto;
+import com.example.hrm.dto.SalaryPercentilesDto;
+import com.example.hrm.exception.BadRequestException;
+import com.example.hrm.model.Department;
+import com.example.hrm.model.Role;
+import com.example.hrm.repo.DepartmentRepository;
+import com.example.hrm.repo.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class AnalyticsService {
+    private static final int MAX_BUCKETS = 1000;
+
+    private final EmployeeColumnStore columnStore;
+    private final DepartmentRepository departmentRepository;
+    private final RoleRepository roleRepository;
+
+    @Autowired
+    public AnalyticsService(EmployeeColumnStore columnStore, DepartmentRepository departmentRepository,
+                            RoleRepository roleRepository) {
+        this.columnStore = columnStore;
+        this.departmentRepository = departmentRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    public SalaryHistogramDto getSalaryHistogram(Long departmentId, Long roleId, int buckets) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new BadRequestException("buckets must be between 1 and " + MAX_BUCKETS);
+        }
+        return columnStore.salaryHistogram(departmentId, roleId, buckets);
+    }
+
+    public SalaryPercentilesDto getSalaryPercentiles(Long departmentId, Long roleId, List<Double> percentiles) {
+        double[] values = new double[percentiles.size()];
+        for (int i = 0; i < values.length; i++) {
+            double p = percentiles.get(i);
+            if (!(p > 0 && p <= 100)) {
+                throw new BadRequestException("Percentiles must be in (0, 100]: " + p);
+            }
+            values[i] = p;
+        }
+        return columnStore.salaryPercentiles(departmentId, roleId, values);
+    }
+
+    public List<GroupStatsDto> groupBy(String dimension, Long departmentId, Long roleId) {
+        EmployeeColumnStore.Dimension parsed = EmployeeColumnStore.Dimension.from(dimension);
+        Map<Long, String> names = switch (parsed) {
+            case DEPARTMENT -> departmentRepository.findAll().stream()
+                    .collect(Collectors.toMap(Department::getId, Department::getName));
+            case ROLE -> roleRepository.findAll().stream()
+                    .collect(Collectors.toMap(Role::getId, Role::getName));
+            case TENURE -> Map.of();
+        };
+        return columnStore.groupBy(parsed, departmentId, roleId, names);
+    }
+}
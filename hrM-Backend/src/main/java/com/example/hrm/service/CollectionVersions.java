@@ -0,0 +1,64 @@
+package com.example.hrm.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version counters for the employee, department and role collections, used to build
+ * strong ETags without reading the database. Services bump a counter after every write; the bump
+ * runs once the surrounding transaction commits so a tag never runs ahead of the data it names.
+ * Tags carry the startup time, which keeps a restarted server from reissuing old tags.
+ */
+@Service
+public class CollectionVersions {
+
+    public enum Collection {
+        EMPLOYEES, DEPARTMENTS, ROLES
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Collection, AtomicLong> versions = new EnumMap<>(Collection.class);
+
+    public CollectionVersions() {
+        for (Collection collection : Collection.values()) {
+            versions.put(collection, new AtomicLong());
+        }
+    }
+
+    public void bump(Collection collection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.get(collection).incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.get(collection).incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Quoted strong ETag over the given collections. Read it before loading the data so a write
+     * that commits in between can only make the tag older than the body, never newer.
+     */
+    public String etag(Collection... collections) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+        for (Collection collection : collections) {
+            tag.append('-').append(versions.get(collection).get());
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Employee representations embed department and role names, so their tag covers all three.
+     */
+    public String employeesEtag() {
+        return etag(Collection.EMPLOYEES, Collection.DEPARTMENTS, Collection.ROLES);
+    }
+}
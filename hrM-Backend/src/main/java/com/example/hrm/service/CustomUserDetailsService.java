@@ -1,28 +1,63 @@
 package com.example.hrm.service;
 
+import com.example.hrm.dto.CacheStatsDto;
 import com.example.hrm.model.User;
 import com.example.hrm.repo.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // Loaded users by username. Concurrent misses for the same username wait on a single load;
+    // unknown usernames are not cached.
+    private final Cache<String, User> users;
+
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${hrm.security.user-cache.ttl:PT5M}") Duration ttl,
+                                    @Value("${hrm.security.user-cache.max-size:10000}") long maxSize) {
         this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-        
+        long start = System.nanoTime();
+        User user = users.get(username, key -> userRepository.findByUsername(key).orElse(null));
+        RequestTimings.record(RequestTimings.Phase.USER, start);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
         return user;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Drops the cached user so the next lookup reads it again. Must be called after any write to
+     * the user's row.
+     */
+    public void evict(String username) {
+        users.invalidate(username);
+    }
+
+    public CacheStatsDto cacheStats() {
+        CacheStats stats = users.stats();
+        return new CacheStatsDto("users", users.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.hitRate());
+    }
+} 
@@ -0,0 +1,48 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.DashboardSummaryDto;
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.model.Department;
+import com.example.hrm.model.Role;
+import com.example.hrm.repo.DepartmentRepository;
+import com.example.hrm.repo.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class DashboardService {
+    private final EmployeeAggregateStore aggregateStore;
+    private final DepartmentRepository departmentRepository;
+    private final RoleRepository roleRepository;
+
+    @Autowired
+    public DashboardService(EmployeeAggregateStore aggregateStore, DepartmentRepository departmentRepository,
+                            RoleRepository roleRepository) {
+        this.aggregateStore = aggregateStore;
+        this.departmentRepository = departmentRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    public DashboardSummaryDto getSummary() {
+        Map<Long, String> departmentNames = departmentRepository.findAll().stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+        Map<Long, String> roleNames = roleRepository.findAll().stream()
+                .collect(Collectors.toMap(Role::getId, Role::getName));
+        List<GroupStatsDto> departments = aggregateStore.departmentStats(departmentNames);
+        List<GroupStatsDto> roles = aggregateStore.roleStats(roleNames);
+
+        // Every employee belongs to exactly one department, so the department groups add up to the totals.
+        long employeeCount = 0;
+        double totalSalary = 0;
+        for (GroupStatsDto department : departments) {
+            employeeCount += department.getHeadcount();
+            totalSalary += department.getTotalSalary();
+        }
+        return new DashboardSummaryDto(employeeCount, departments.size(), roles.size(), totalSalary,
+                departments, roles);
+    }
+}
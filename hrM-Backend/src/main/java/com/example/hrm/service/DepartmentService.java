@@ -12,44 +12,64 @@ import java.util.stream.Collectors;
 @Service
 public class DepartmentService {
     private final DepartmentRepository departmentRepository;
+    private final CollectionVersions collectionVersions;
+    private final RequestCoalescer requestCoalescer;
 
     @Autowired
-    public DepartmentService(DepartmentRepository departmentRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository, CollectionVersions collectionVersions,
+                             RequestCoalescer requestCoalescer) {
         this.departmentRepository = departmentRepository;
+        this.collectionVersions = collectionVersions;
+        this.requestCoalescer = requestCoalescer;
     }
 
+    @QueryBudget(1)
     public List<DepartmentDto> getAllDepartments() {
-        return departmentRepository.findAll()
+        String key = "departments" + collectionVersions.etag(CollectionVersions.Collection.DEPARTMENTS);
+        return requestCoalescer.execute(key, () -> departmentRepository.findAll()
                 .stream()
                 .map(this::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
+    @QueryBudget(1)
     public DepartmentDto getDepartmentById(Long id) {
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found"));
         return toDto(dept);
     }
 
+    @QueryBudget(1)
     public DepartmentDto createDepartment(DepartmentDto dto) {
         Department dept = new Department(dto.getName(), dto.getDescription());
         dept = departmentRepository.save(dept);
+        collectionVersions.bump(CollectionVersions.Collection.DEPARTMENTS);
         return toDto(dept);
     }
 
+    @QueryBudget(3)
     public DepartmentDto updateDepartment(Long id, DepartmentDto dto) {
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found"));
         dept.setName(dto.getName());
         dept.setDescription(dto.getDescription());
-        return toDto(departmentRepository.save(dept));
+        dept = departmentRepository.save(dept);
+        collectionVersions.bump(CollectionVersions.Collection.DEPARTMENTS);
+        return toDto(dept);
     }
 
+    @QueryBudget(2)
     public void deleteDepartment(Long id) {
         departmentRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.Collection.DEPARTMENTS);
     }
 
     private DepartmentDto toDto(Department d) {
-        return new DepartmentDto(d.getId(), d.getName(), d.getDescription());
+        long start = System.nanoTime();
+        try {
+            return new DepartmentDto(d.getId(), d.getName(), d.getDescription());
+        } finally {
+            RequestTimings.record(RequestTimings.Phase.MAPPING, start);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.repo.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory headcount and salary aggregates per department and per role. Writes are applied as
+ * deltas once their transaction commits, so reads cost O(groups) regardless of employee count.
+ * A scheduled reconciliation compares the store with GROUP BY queries and repairs any drift.
+ * Writes are counted as committing from just before their commit until their delta is applied,
+ * and query results are only installed when none was committing, so no write is counted twice.
+ */
+@Service
+public class EmployeeAggregateStore {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAggregateStore.class);
+    private static final double SALARY_TOLERANCE = 0.01;
+    private static final int ATTEMPTS = 3;
+
+    private final EmployeeRepository employeeRepository;
+    // Never held across a database query: rebuild() and stats() query first and then install the
+    // result only if no write committed or was committing in the meantime
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private Map<Long, Group> byDepartment = new HashMap<>();
+    private Map<Long, Group> byRole = new HashMap<>();
+    private long modifications;
+    private int committing;
+
+    @Autowired
+    public EmployeeAggregateStore(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * A query may see the write from here on, before its delta is applied after commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeCommitting(EmployeeChangedEvent event) {
+        lock.lock();
+        try {
+            committing++;
+        } finally {
+            lock.unlock();
+        }
+        // Runs after every afterCommit callback, so the delta is applied by then
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.lock();
+                try {
+                    committing--;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeChangedEvent.Snapshot before = event.getBefore();
+        EmployeeChangedEvent.Snapshot after = event.getAfter();
+        lock.lock();
+        try {
+            if (before != null) {
+                remove(byDepartment, before.getDepartmentId(), before.getSalary());
+                remove(byRole, before.getRoleId(), before.getSalary());
+            }
+            if (after != null) {
+                add(byDepartment, after.getDepartmentId(), after.getSalary());
+                add(byRole, after.getRoleId(), after.getSalary());
+            }
+            modifications++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            if (rebuild(false)) {
+                return;
+            }
+        }
+        log.warn("Employee aggregates could not be loaded while writes were in progress; retrying at next reconciliation");
+    }
+
+    @Scheduled(initialDelayString = "${hrm.aggregates.reconcile-interval:PT10M}",
+               fixedDelayString = "${hrm.aggregates.reconcile-interval:PT10M}")
+    public void reconcile() {
+        rebuild(true);
+    }
+
+    public List<GroupStatsDto> departmentStats(Map<Long, String> names) {
+        return stats(() -> byDepartment, names, employeeRepository::summarizeDepartment);
+    }
+
+    public List<GroupStatsDto> roleStats(Map<Long, String> names) {
+        return stats(() -> byRole, names, employeeRepository::summarizeRole);
+    }
+
+    /**
+     * Recomputes every group from the database and installs the result unless a write committed or
+     * was committing in the meantime, in which case the next run tries again.
+     */
+    private boolean rebuild(boolean compare) {
+        long seen;
+        lock.lock();
+        try {
+            seen = modifications;
+        } finally {
+            lock.unlock();
+        }
+        Map<Long, Group> departments = toGroups(employeeRepository.summarizeByDepartment());
+        Map<Long, Group> roles = toGroups(employeeRepository.summarizeByRole());
+
+        lock.lock();
+        try {
+            if (!unchanged(seen)) {
+                return false;
+            }
+            if (compare) {
+                int drifted = countDrift(byDepartment, departments) + countDrift(byRole, roles);
+                if (drifted > 0) {
+                    log.warn("Employee aggregates drifted from the database in {} group(s); repaired", drifted);
+                }
+            }
+            byDepartment = departments;
+            byRole = roles;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Groups whose removed salary was their min or max have their bounds read again. The ids are
+     * collected under the lock, queried without it and installed only if no write committed or was
+     * committing and no rebuild ran in between; otherwise the next attempt starts over. The last attempt answers with
+     * the queried bounds without installing them.
+     */
+    private List<GroupStatsDto> stats(Supplier<Map<Long, Group>> current, Map<Long, String> names,
+                                      Function<Long, Optional<GroupStatsDto>> summarizer) {
+        for (int attempt = 1; ; attempt++) {
+            Map<Long, Group> groups;
+            List<Long> stale;
+            long seen;
+            lock.lock();
+            try {
+                groups = current.get();
+                stale = names.keySet().stream()
+                        .filter(id -> groups.containsKey(id) && groups.get(id).extremesStale)
+                        .toList();
+                if (stale.isEmpty()) {
+                    return toDtos(groups, names, Map.of());
+                }
+                seen = modifications;
+            } finally {
+                lock.unlock();
+            }
+
+            Map<Long, GroupStatsDto> fresh = new HashMap<>();
+            for (Long id : stale) {
+                summarizer.apply(id).ifPresent(summary -> fresh.put(id, summary));
+            }
+
+            lock.lock();
+            try {
+                if (unchanged(seen) && groups == current.get()) {
+                    fresh.forEach((id, summary) -> {
+                        Group group = groups.get(id);
+                        group.min = summary.getMinSalary();
+                        group.max = summary.getMaxSalary();
+                        group.extremesStale = false;
+                    });
+                    return toDtos(groups, names, Map.of());
+                }
+                if (attempt == ATTEMPTS) {
+                    return toDtos(current.get(), names, fresh);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Caller holds the lock
+    private boolean unchanged(long seen) {
+        return seen == modifications && committing == 0;
+    }
+
+    // Caller holds the lock; bounds in override replace those of the same group
+    private static List<GroupStatsDto> toDtos(Map<Long, Group> groups, Map<Long, String> names,
+                                              Map<Long, GroupStatsDto> override) {
+        return names.entrySet().stream()
+                .map(entry -> {
+                    Group group = groups.get(entry.getKey());
+                    if (group == null) {
+                        return new GroupStatsDto(entry.getKey(), entry.getValue(), 0L, 0.0, null, null, null);
+                    }
+                    GroupStatsDto dto = group.toDto(entry.getKey(), entry.getValue());
+                    GroupStatsDto bounds = override.get(entry.getKey());
+                    if (bounds != null) {
+                        dto.setMinSalary(bounds.getMinSalary());
+                        dto.setMaxSalary(bounds.getMaxSalary());
+                    }
+                    return dto;
+                })
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .toList();
+    }
+
+    private static void add(Map<Long, Group> groups, Long key, double salary) {
+        Group group = groups.computeIfAbsent(key, k -> new Group());
+        if (group.headcount == 0) {
+            group.min = salary;
+            group.max = salary;
+        } else if (!group.extremesStale) {
+            group.min = Math.min(group.min, salary);
+            group.max = Math.max(group.max, salary);
+        }
+        group.headcount++;
+        group.salarySum += salary;
+    }
+
+    private static void remove(Map<Long, Group> groups, Long key, double salary) {
+        Group group = groups.get(key);
+        if (group == null) {
+            return;
+        }
+        group.headcount--;
+        group.salarySum -= salary;
+        if (group.headcount <= 0) {
+            groups.remove(key);
+        } else if (salary <= group.min || salary >= group.max) {
+            group.extremesStale = true;
+        }
+    }
+
+    private static Map<Long, Group> toGroups(List<GroupStatsDto> rows) {
+        Map<Long, Group> groups = new HashMap<>();
+        for (GroupStatsDto row : rows) {
+            if (row.getHeadcount() == 0) {
+                continue;
+            }
+            Group group = new Group();
+            group.headcount = row.getHeadcount();
+            group.salarySum = row.getTotalSalary();
+            group.min = row.getMinSalary();
+            group.max = row.getMaxSalary();
+            groups.put(row.getId(), group);
+        }
+        return groups;
+    }
+
+    private static int countDrift(Map<Long, Group> current, Map<Long, Group> fresh) {
+        int drifted = 0;
+        for (Map.Entry<Long, Group> entry : fresh.entrySet()) {
+            Group group = current.get(entry.getKey());
+            if (group == null || !group.matches(entry.getValue())) {
+                drifted++;
+            }
+        }
+        for (Long key : current.keySet()) {
+            if (!fresh.containsKey(key)) {
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private static class Group {
+        private long headcount;
+        private double salarySum;
+        private double min;
+        private double max;
+        private boolean extremesStale;
+
+        private boolean matches(Group other) {
+            return headcount == other.headcount
+                    && Math.abs(salarySum - other.salarySum) < SALARY_TOLERANCE
+                    && (extremesStale || (min == other.min && max == other.max));
+        }
+
+        private GroupStatsDto toDto(Long id, String name) {
+            return new GroupStatsDto(id, name, headcount, salarySum, salarySum / headcount, min, max);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.hrm.service;
+
+import com.example.hrm.model.Employee;
+
+import java.time.LocalDate;
+
+/**
+ * Published by EmployeeService for every committed create, update or delete. {@code before} is
+ * null for a create and {@code after} is null for a delete.
+ */
+public class EmployeeChangedEvent {
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public EmployeeChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(null, Snapshot.of(employee));
+    }
+
+    public static EmployeeChangedEvent deleted(Employee employee) {
+        return new EmployeeChangedEvent(Snapshot.of(employee), null);
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    // The employee fields that derived read models depend on, captured at one point in time
+    public static class Snapshot {
+        private final Long id;
+        private final Long departmentId;
+        private final Long roleId;
+        private final double salary;
+        private final LocalDate hireDate;
+
+        public Snapshot(Long id, Long departmentId, Long roleId, double salary, LocalDate hireDate) {
+            this.id = id;
+            this.departmentId = departmentId;
+            this.roleId = roleId;
+            this.salary = salary;
+            this.hireDate = hireDate;
+        }
+
+        public static Snapshot of(Employee e) {
+            return new Snapshot(e.getId(), e.getDepartment().getId(), e.getRole().getId(),
+                    e.getSalary(), e.getHireDate());
+        }
+
+        public Long getId() { return id; }
+        public Long getDepartmentId() { return departmentId; }
+        public Long getRoleId() { return roleId; }
+        public double getSalary() { return salary; }
+        public LocalDate getHireDate() { return hireDate; }
+    }
+}
@@ -0,0 +1,531 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.dto.SalaryHistogramDto;
+import com.example.hrm.dto.SalaryPercentilesDto;
+import com.example.hrm.exception.BadRequestException;
+import com.example.hrm.repo.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented copy of the employee fields used for analytics: salary as {@code double[]},
+ * hire date as epoch-day {@code int[]}, and department and role as dictionary codes in
+ * {@code int[]}. Scans walk the primitive columns in fixed-size chunks on the common fork-join
+ * pool and never touch entities or DTOs; the only per-query allocations are the per-chunk
+ * accumulators. Percentiles read a permutation of the rows ordered by salary, so they neither copy
+ * nor sort the salaries.
+ *
+ * <p>The columns are loaded at startup and patched in place from {@link EmployeeChangedEvent}
+ * once each write commits. Deletes move the last row into the hole, so the columns stay dense.
+ */
+@Service
+public class EmployeeColumnStore {
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int MAX_TENURE_YEARS = 50;
+    private static final int ANY = -1;
+    private static final int NONE = -2;
+
+    public enum Dimension {
+        DEPARTMENT, ROLE, TENURE;
+
+        public static Dimension from(String value) {
+            for (Dimension dimension : values()) {
+                if (dimension.name().equalsIgnoreCase(value)) {
+                    return dimension;
+                }
+            }
+            throw new BadRequestException("Unsupported group-by dimension: " + value);
+        }
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Columns columns = new Columns();
+    private List<EmployeeChangedEvent> pendingDuringLoad;
+
+    @Autowired
+    public EmployeeColumnStore(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * Reads every employee into fresh columns. Events that commit while the rows are being read are
+     * applied to the live columns and replayed onto the fresh ones before they are installed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Columns fresh = new Columns();
+        try (Stream<EmployeeDto> rows = employeeRepository.streamAllDtos()) {
+            rows.forEach(row -> fresh.append(row.getId(), row.getDepartmentId(), row.getRoleId(),
+                    row.getSalary(), row.getHireDate()));
+        }
+        fresh.rank();
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad.forEach(fresh::apply);
+            pendingDuringLoad = null;
+            columns = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            columns.apply(event);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SalaryHistogramDto salaryHistogram(Long departmentId, Long roleId, int buckets) {
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int department = c.departments.filterCode(departmentId);
+            int role = c.roles.filterCode(roleId);
+            if (department == NONE || role == NONE) {
+                return new SalaryHistogramDto(0, null, null, 0, new long[buckets]);
+            }
+
+            // Pass 1: count, min and max of the matching rows
+            double[] range = scan(c.size, () -> new double[]{0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY},
+                    (acc, from, to) -> {
+                        for (int i = from; i < to; i++) {
+                            if (c.matches(i, department, role)) {
+                                double salary = c.salary[i];
+                                acc[0]++;
+                                if (salary < acc[1]) acc[1] = salary;
+                                if (salary > acc[2]) acc[2] = salary;
+                            }
+                        }
+                    },
+                    (a, b) -> new double[]{a[0] + b[0], Math.min(a[1], b[1]), Math.max(a[2], b[2])});
+            long count = (long) range[0];
+            if (count == 0) {
+                return new SalaryHistogramDto(0, null, null, 0, new long[buckets]);
+            }
+            double min = range[1];
+            double max = range[2];
+            double width = max > min ? (max - min) / buckets : 1;
+
+            // Pass 2: bucket counts; the maximum falls into the last bucket
+            long[] counts = scan(c.size, () -> new long[buckets],
+                    (acc, from, to) -> {
+                        for (int i = from; i < to; i++) {
+                            if (c.matches(i, department, role)) {
+                                int bucket = (int) ((c.salary[i] - min) / width);
+                                acc[Math.min(bucket, buckets - 1)]++;
+                            }
+                        }
+                    },
+                    (a, b) -> {
+                        for (int i = 0; i < a.length; i++) {
+                            a[i] += b[i];
+                        }
+                        return a;
+                    });
+            return new SalaryHistogramDto(count, min, max, width, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nearest-rank percentiles of the matching salaries; {@code percentiles} are in (0, 100].
+     */
+    public SalaryPercentilesDto salaryPercentiles(Long departmentId, Long roleId, double[] percentiles) {
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int department = c.departments.filterCode(departmentId);
+            int role = c.roles.filterCode(roleId);
+            int count = department == NONE || role == NONE ? 0 : c.count(department, role);
+            Map<String, Double> result = new LinkedHashMap<>();
+            for (double p : percentiles) {
+                String key = "p" + (p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p));
+                if (count == 0) {
+                    result.put(key, null);
+                } else {
+                    int rank = Math.max((int) Math.ceil(p / 100.0 * count), 1);
+                    result.put(key, c.salaryAtRank(rank, department, role));
+                }
+            }
+            return new SalaryPercentilesDto(count, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Headcount and salary statistics per group. For {@link Dimension#TENURE} the group id is the
+     * number of completed years of service, capped at {@value #MAX_TENURE_YEARS}.
+     */
+    public List<GroupStatsDto> groupBy(Dimension dimension, Long departmentId, Long roleId,
+                                       Map<Long, String> names) {
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            int department = c.departments.filterCode(departmentId);
+            int role = c.roles.filterCode(roleId);
+            if (department == NONE || role == NONE) {
+                return List.of();
+            }
+            int[] anniversaries = anniversaries(LocalDate.now());
+            int groups = switch (dimension) {
+                case DEPARTMENT -> c.departments.size();
+                case ROLE -> c.roles.size();
+                case TENURE -> MAX_TENURE_YEARS + 1;
+            };
+
+            GroupAccumulator total = scan(c.size, () -> new GroupAccumulator(groups),
+                    (acc, from, to) -> {
+                        for (int i = from; i < to; i++) {
+                            if (c.matches(i, department, role)) {
+                                int group = switch (dimension) {
+                                    case DEPARTMENT -> c.department[i];
+                                    case ROLE -> c.role[i];
+                                    case TENURE -> tenureYears(c.hireDay[i], anniversaries);
+                                };
+                                acc.add(group, c.salary[i]);
+                            }
+                        }
+                    },
+                    GroupAccumulator::merge);
+
+            List<GroupStatsDto> result = new ArrayList<>();
+            for (int group = 0; group < groups; group++) {
+                long count = total.count[group];
+                if (count == 0) {
+                    continue;
+                }
+                long id = switch (dimension) {
+                    case DEPARTMENT -> c.departments.idOf(group);
+                    case ROLE -> c.roles.idOf(group);
+                    case TENURE -> group;
+                };
+                String name = dimension == Dimension.TENURE ? group + " years" : names.get(id);
+                result.add(new GroupStatsDto(id, name, count, total.sum[group], total.sum[group] / count,
+                        total.min[group], total.max[group]));
+            }
+            if (dimension != Dimension.TENURE) {
+                result.sort(Comparator.comparing(GroupStatsDto::getName, Comparator.nullsLast(Comparator.naturalOrder())));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // anniversaries[y] is the epoch day y calendar years before today, so leap days are counted
+    private static int[] anniversaries(LocalDate today) {
+        int[] days = new int[MAX_TENURE_YEARS + 1];
+        for (int years = 0; years <= MAX_TENURE_YEARS; years++) {
+            days[years] = (int) today.minusYears(years).toEpochDay();
+        }
+        return days;
+    }
+
+    // Completed years of service: the largest y whose anniversary is on or after the hire day
+    private static int tenureYears(int hireDay, int[] anniversaries) {
+        int low = 0;
+        int high = MAX_TENURE_YEARS;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (anniversaries[mid] >= hireDay) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Runs {@code scanner} over [0, size) in chunks of {@value #CHUNK_SIZE} rows, in parallel when
+     * there is more than one chunk, and merges the per-chunk accumulators.
+     */
+    private static <A> A scan(int size, Supplier<A> supplier, RangeScanner<A> scanner, BinaryOperator<A> merge) {
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunks <= 1) {
+            A acc = supplier.get();
+            scanner.scan(acc, 0, size);
+            return acc;
+        }
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    A acc = supplier.get();
+                    scanner.scan(acc, chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE));
+                    return acc;
+                })
+                .reduce(merge)
+                .orElseGet(supplier);
+    }
+
+    @FunctionalInterface
+    private interface RangeScanner<A> {
+        void scan(A acc, int from, int to);
+    }
+
+    private static final class GroupAccumulator {
+        private final long[] count;
+        private final double[] sum;
+        private final double[] min;
+        private final double[] max;
+
+        private GroupAccumulator(int groups) {
+            count = new long[groups];
+            sum = new double[groups];
+            min = new double[groups];
+            max = new double[groups];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        }
+
+        private void add(int group, double salary) {
+            count[group]++;
+            sum[group] += salary;
+            if (salary < min[group]) min[group] = salary;
+            if (salary > max[group]) max[group] = salary;
+        }
+
+        private GroupAccumulator merge(GroupAccumulator other) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                sum[g] += other.sum[g];
+                min[g] = Math.min(min[g], other.min[g]);
+                max[g] = Math.max(max[g], other.max[g]);
+            }
+            return this;
+        }
+    }
+
+    // Maps entity ids to dense int codes; codes are never reused, so the dictionary only grows.
+    private static final class Dictionary {
+        private final Map<Long, Integer> codes = new HashMap<>();
+        private long[] ids = new long[16];
+
+        private int encode(Long id) {
+            Integer code = codes.get(id);
+            if (code == null) {
+                code = codes.size();
+                if (code == ids.length) {
+                    ids = Arrays.copyOf(ids, code * 2);
+                }
+                ids[code] = id;
+                codes.put(id, code);
+            }
+            return code;
+        }
+
+        private int filterCode(Long id) {
+            if (id == null) {
+                return ANY;
+            }
+            Integer code = codes.get(id);
+            return code == null ? NONE : code;
+        }
+
+        private long idOf(int code) {
+            return ids[code];
+        }
+
+        private int size() {
+            return codes.size();
+        }
+    }
+
+    private static final class Columns {
+        private long[] id = new long[1024];
+        private double[] salary = new double[1024];
+        private int[] hireDay = new int[1024];
+        private int[] department = new int[1024];
+        private int[] role = new int[1024];
+        // Row numbers ordered by salary; bySalary[0, size) is kept in order by every upsert and remove
+        private int[] bySalary = new int[1024];
+        private int size;
+        private final Map<Long, Integer> rowById = new HashMap<>();
+        private final Dictionary departments = new Dictionary();
+        private final Dictionary roles = new Dictionary();
+
+        private void apply(EmployeeChangedEvent event) {
+            EmployeeChangedEvent.Snapshot after = event.getAfter();
+            if (after != null) {
+                upsert(after.getId(), after.getDepartmentId(), after.getRoleId(), after.getSalary(), after.getHireDate());
+            } else if (event.getBefore() != null) {
+                remove(event.getBefore().getId());
+            }
+        }
+
+        private void upsert(Long employeeId, Long departmentId, Long roleId, double employeeSalary, LocalDate hireDate) {
+            Integer row = rowById.get(employeeId);
+            if (row == null) {
+                row = append(employeeId, departmentId, roleId, employeeSalary, hireDate);
+                insertRank(row, size - 1);
+                return;
+            }
+            if (salary[row] != employeeSalary) {
+                removeRank(row, size);
+                salary[row] = employeeSalary;
+                insertRank(row, size - 1);
+            }
+            hireDay[row] = (int) hireDate.toEpochDay();
+            department[row] = departments.encode(departmentId);
+            role[row] = roles.encode(roleId);
+        }
+
+        // Adds a row without ranking it; a bulk load appends every row and then calls rank() once
+        private int append(Long employeeId, Long departmentId, Long roleId, double employeeSalary, LocalDate hireDate) {
+            if (size == id.length) {
+                grow();
+            }
+            int row = size++;
+            rowById.put(employeeId, row);
+            id[row] = employeeId;
+            salary[row] = employeeSalary;
+            hireDay[row] = (int) hireDate.toEpochDay();
+            department[row] = departments.encode(departmentId);
+            role[row] = roles.encode(roleId);
+            return row;
+        }
+
+        private void rank() {
+            int[] sorted = IntStream.range(0, size).boxed()
+                    .sorted(Comparator.comparingDouble(row -> salary[row]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            System.arraycopy(sorted, 0, bySalary, 0, size);
+        }
+
+        private void remove(Long employeeId) {
+            Integer row = rowById.remove(employeeId);
+            if (row == null) {
+                return;
+            }
+            removeRank(row, size);
+            int last = --size;
+            if (row != last) {
+                bySalary[rankOf(last, size)] = row;
+                id[row] = id[last];
+                salary[row] = salary[last];
+                hireDay[row] = hireDay[last];
+                department[row] = department[last];
+                role[row] = role[last];
+                rowById.put(id[row], row);
+            }
+        }
+
+        private boolean matches(int row, int departmentCode, int roleCode) {
+            return (departmentCode == ANY || department[row] == departmentCode)
+                    && (roleCode == ANY || role[row] == roleCode);
+        }
+
+        private int count(int departmentCode, int roleCode) {
+            if (departmentCode == ANY && roleCode == ANY) {
+                return size;
+            }
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (matches(i, departmentCode, roleCode)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // The rank-th smallest matching salary (1-based). Unfiltered ranks are a direct index;
+        // filtered ones walk the salary order until rank matching rows have been seen.
+        private double salaryAtRank(int rank, int departmentCode, int roleCode) {
+            if (departmentCode == ANY && roleCode == ANY) {
+                return salary[bySalary[rank - 1]];
+            }
+            int seen = 0;
+            for (int i = 0; i < size; i++) {
+                int row = bySalary[i];
+                if (matches(row, departmentCode, roleCode) && ++seen == rank) {
+                    return salary[row];
+                }
+            }
+            throw new IllegalStateException("Rank " + rank + " exceeds the matching rows");
+        }
+
+        // Position of row in bySalary[0, count): the first entry with its salary, then a scan of the ties
+        private int rankOf(int row, int count) {
+            int position = lowerBound(salary[row], count);
+            while (bySalary[position] != row) {
+                position++;
+            }
+            return position;
+        }
+
+        private void insertRank(int row, int count) {
+            int position = lowerBound(salary[row], count);
+            System.arraycopy(bySalary, position, bySalary, position + 1, count - position);
+            bySalary[position] = row;
+        }
+
+        private void removeRank(int row, int count) {
+            int position = rankOf(row, count);
+            System.arraycopy(bySalary, position + 1, bySalary, position, count - position - 1);
+        }
+
+        private int lowerBound(double value, int count) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (salary[bySalary[mid]] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void grow() {
+            int capacity = id.length * 2;
+            id = Arrays.copyOf(id, capacity);
+            salary = Arrays.copyOf(salary, capacity);
+            hireDay = Arrays.copyOf(hireDay, capacity);
+            department = Arrays.copyOf(department, capacity);
+            role = Arrays.copyOf(role, capacity);
+            bySalary = Arrays.copyOf(bySalary, capacity);
+        }
+    }
+}
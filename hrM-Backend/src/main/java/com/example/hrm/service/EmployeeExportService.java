@@ -0,0 +1,140 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.exception.BadRequestException;
+import com.example.hrm.repo.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the employee directory to an output stream row by row. Rows are read through a
+ * forward-only projection cursor, so no Employee entity is ever attached to the persistence
+ * context and memory use does not depend on the number of rows.
+ */
+@Service
+public class EmployeeExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + value);
+        }
+    }
+
+    private static final String[] CSV_HEADER = {
+            "id", "firstName", "lastName", "email", "phone", "hireDate", "salary",
+            "departmentId", "departmentName", "roleId", "roleName"
+    };
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectWriter jsonWriter;
+
+    @Autowired
+    public EmployeeExportService(EmployeeRepository employeeRepository, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.jsonWriter = objectMapper.writerFor(EmployeeDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Streams every employee to {@code out} and returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        try (Stream<EmployeeDto> rows = employeeRepository.streamAllDtos()) {
+            long count = format == Format.CSV ? writeCsv(rows.iterator(), writer) : writeNdjson(rows.iterator(), writer);
+            writer.flush();
+            return count;
+        }
+    }
+
+    private long writeNdjson(Iterator<EmployeeDto> rows, Writer writer) throws IOException {
+        long count = 0;
+        JsonGenerator generator = jsonWriter.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            jsonWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<EmployeeDto> rows, Writer writer) throws IOException {
+        long count = 0;
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+        while (rows.hasNext()) {
+            EmployeeDto e = rows.next();
+            writeCsvRow(writer, e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getPhone(),
+                    e.getHireDate(), e.getSalary(), e.getDepartmentId(), e.getDepartmentName(),
+                    e.getRoleId(), e.getRoleName());
+            count++;
+        }
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(writer, values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
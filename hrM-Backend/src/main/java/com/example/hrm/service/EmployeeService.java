@@ -1,15 +1,36 @@
 package com.example.hrm.service;
+import com.example.hrm.dto.BulkCreateResultDto;
 import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.EmployeeFieldsPageDto;
+import com.example.hrm.dto.EmployeePageDto;
+import com.example.hrm.dto.EmployeeSearchCriteria;
+import com.example.hrm.exception.BadRequestException;
 import com.example.hrm.model.Department;
 import com.example.hrm.model.Employee;
 import com.example.hrm.model.Role;
 import com.example.hrm.repo.DepartmentRepository;
+import com.example.hrm.repo.EmployeeCursor;
+import com.example.hrm.repo.EmployeeField;
 import com.example.hrm.repo.EmployeeRepository;
+import com.example.hrm.repo.EmployeeSort;
 import com.example.hrm.repo.RoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,28 +38,150 @@ public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final RoleRepository roleRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CollectionVersions collectionVersions;
+    private final RequestCoalescer requestCoalescer;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBulkSize;
+    private final int batchSize;
 
     @Autowired
     public EmployeeService(EmployeeRepository employeeRepository, DepartmentRepository departmentRepository, 
-                          RoleRepository roleRepository) {
+                          RoleRepository roleRepository, EntityManager entityManager, Validator validator,
+                          ApplicationEventPublisher eventPublisher, CollectionVersions collectionVersions,
+                          RequestCoalescer requestCoalescer,
+                          @Value("${hrm.employees.page.default-size:20}") int defaultPageSize,
+                          @Value("${hrm.employees.page.max-size:100}") int maxPageSize,
+                          @Value("${hrm.employees.bulk.max-size:5000}") int maxBulkSize,
+                          @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
         this.roleRepository = roleRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.collectionVersions = collectionVersions;
+        this.requestCoalescer = requestCoalescer;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBulkSize = maxBulkSize;
+        this.batchSize = batchSize;
     }
 
+    @QueryBudget(1)
     public List<EmployeeDto> getAllEmployees() {
-        return employeeRepository.findAll()
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return requestCoalescer.execute("employees" + collectionVersions.employeesEtag(),
+                employeeRepository::findAllDtos);
     }
 
+    /**
+     * Returns one keyset page. {@code sort} uses the {@code field[,asc|desc]} form; when only a
+     * cursor is given the sort it was issued for is reused.
+     */
+    @QueryBudget(1)
+    public EmployeePageDto getEmployeePage(String sort, String cursor, Integer limit) {
+        return searchEmployees(null, sort, cursor, limit);
+    }
+
+    /**
+     * Returns one keyset page of the employees matching {@code criteria}; see {@link #getEmployeePage}.
+     */
+    @QueryBudget(1)
+    public EmployeePageDto searchEmployees(EmployeeSearchCriteria criteria, String sort, String cursor, Integer limit) {
+        PageSpec page = pageSpec(sort, cursor, limit);
+        List<EmployeeDto> items = employeeRepository.findPage(criteria, page.sort, page.descending, page.after,
+                page.size + 1);
+
+        String nextCursor = null;
+        if (items.size() > page.size) {
+            items = items.subList(0, page.size);
+            nextCursor = EmployeeCursor.after(page.sort, page.descending, items.get(page.size - 1)).encode();
+        }
+        return new EmployeePageDto(items, nextCursor);
+    }
+
+    /**
+     * Returns every employee with only the comma-separated {@code fields}.
+     */
+    @QueryBudget(1)
+    public List<Map<String, Object>> getEmployeeFields(String fields) {
+        return employeeRepository.findFields(EmployeeField.parseList(fields), null, EmployeeSort.ID, false,
+                null, null);
+    }
+
+    /**
+     * Same as {@link #searchEmployees} but selects and returns only the comma-separated
+     * {@code fields}. The id and sort column are read as well when the cursor needs them.
+     */
+    @QueryBudget(1)
+    public EmployeeFieldsPageDto searchEmployeeFields(EmployeeSearchCriteria criteria, String fields, String sort,
+                                                      String cursor, Integer limit) {
+        List<EmployeeField> requested = EmployeeField.parseList(fields);
+        PageSpec page = pageSpec(sort, cursor, limit);
+        EmployeeField sortField = EmployeeField.fromName(page.sort.getAttribute());
+        Set<EmployeeField> selected = new LinkedHashSet<>(requested);
+        selected.add(EmployeeField.ID);
+        selected.add(sortField);
+
+        List<Map<String, Object>> items = employeeRepository.findFields(selected, criteria, page.sort,
+                page.descending, page.after, page.size + 1);
+
+        String nextCursor = null;
+        if (items.size() > page.size) {
+            items = items.subList(0, page.size);
+            Map<String, Object> last = items.get(page.size - 1);
+            nextCursor = new EmployeeCursor(page.sort, page.descending, last.get(sortField.getName()),
+                    (Long) last.get(EmployeeField.ID.getName())).encode();
+        }
+        if (selected.size() > requested.size()) {
+            List<String> names = requested.stream().map(EmployeeField::getName).toList();
+            for (Map<String, Object> item : items) {
+                item.keySet().retainAll(names);
+            }
+        }
+        return new EmployeeFieldsPageDto(items, nextCursor);
+    }
+
+    /**
+     * The sort and page size a first page is read with, spelled canonically, so that requests
+     * differing only in case or in an out-of-range limit share one response cache entry.
+     */
+    public String firstPageKey(String sort, Integer limit) {
+        PageSpec page = pageSpec(sort, null, limit);
+        return "sort=" + page.sort.getAttribute() + (page.descending ? ",desc" : ",asc") + "&limit=" + page.size;
+    }
+
+    private PageSpec pageSpec(String sort, String cursor, Integer limit) {
+        EmployeeCursor after = cursor != null ? EmployeeCursor.decode(cursor) : null;
+        EmployeeSort sortKey = EmployeeSort.ID;
+        boolean descending = false;
+        if (sort != null) {
+            String[] parts = sort.split(",", 2);
+            sortKey = EmployeeSort.fromAttribute(parts[0].trim());
+            descending = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+        } else if (after != null) {
+            sortKey = after.getSort();
+            descending = after.isDescending();
+        }
+        if (after != null && (after.getSort() != sortKey || after.isDescending() != descending)) {
+            throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+        int pageSize = Math.min(Math.max(limit != null ? limit : defaultPageSize, 1), maxPageSize);
+        return new PageSpec(sortKey, descending, after, pageSize);
+    }
+
+    @QueryBudget(1)
     public EmployeeDto getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
+        return employeeRepository.findDtoById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
-        return toDto(employee);
     }
 
+    // Department, role and insert, plus a sequence call once per id block
+    @QueryBudget(4)
+    @Transactional
     public EmployeeDto createEmployee(EmployeeDto dto) {
         Department dept = departmentRepository.findById(dto.getDepartmentId())
                 .orElseThrow(() -> new RuntimeException("Department not found"));
@@ -50,12 +193,122 @@ public class EmployeeService {
                 dto.getHireDate(), dto.getSalary(), dept, role
         );
         employee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
+        collectionVersions.bump(CollectionVersions.Collection.EMPLOYEES);
         return toDto(employee);
     }
 
+    /**
+     * Creates many employees in one transaction. Departments, roles and already-taken emails are
+     * resolved with one query each for the whole request; rows that fail validation are reported
+     * and skipped while the rest are inserted in JDBC batches.
+     */
+    @Transactional
+    public BulkCreateResultDto createEmployees(List<EmployeeDto> dtos) {
+        if (dtos.size() > maxBulkSize) {
+            throw new BadRequestException("At most " + maxBulkSize + " employees can be created per request");
+        }
+        long start = System.nanoTime();
+
+        Set<Long> departmentIds = new HashSet<>();
+        Set<Long> roleIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (EmployeeDto dto : dtos) {
+            if (dto == null) {
+                continue;
+            }
+            if (dto.getDepartmentId() != null) {
+                departmentIds.add(dto.getDepartmentId());
+            }
+            if (dto.getRoleId() != null) {
+                roleIds.add(dto.getRoleId());
+            }
+            if (dto.getEmail() != null) {
+                emails.add(dto.getEmail());
+            }
+        }
+        Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+        Map<Long, Role> roles = roleRepository.findAllById(roleIds).stream()
+                .collect(Collectors.toMap(Role::getId, Function.identity()));
+        Set<String> takenEmails = emails.isEmpty() ? new HashSet<>() : new HashSet<>(employeeRepository.findExistingEmails(emails));
+
+        BulkCreateResultDto.RowResult[] results = new BulkCreateResultDto.RowResult[dtos.size()];
+        Map<Integer, Employee> pending = new HashMap<>();
+        int created = 0;
+        for (int i = 0; i < dtos.size(); i++) {
+            EmployeeDto dto = dtos.get(i);
+            String error = validateBulkRow(dto, departments, roles, takenEmails);
+            if (error != null) {
+                results[i] = BulkCreateResultDto.RowResult.failed(i, error);
+                continue;
+            }
+            takenEmails.add(dto.getEmail());
+            Employee employee = new Employee(
+                    dto.getFirstName(), dto.getLastName(), dto.getEmail(), dto.getPhone(),
+                    dto.getHireDate(), dto.getSalary(),
+                    departments.get(dto.getDepartmentId()), roles.get(dto.getRoleId())
+            );
+            entityManager.persist(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
+            pending.put(i, employee);
+            created++;
+            if (pending.size() >= batchSize) {
+                flushBatch(pending, results);
+            }
+        }
+        flushBatch(pending, results);
+        if (created > 0) {
+            collectionVersions.bump(CollectionVersions.Collection.EMPLOYEES);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new BulkCreateResultDto(dtos.size(), created, dtos.size() - created,
+                elapsedNanos / 1_000_000, seconds > 0 ? created / seconds : created, List.of(results));
+    }
+
+    private String validateBulkRow(EmployeeDto dto, Map<Long, Department> departments, Map<Long, Role> roles,
+                                   Set<String> takenEmails) {
+        if (dto == null) {
+            return "Employee is required";
+        }
+        Set<ConstraintViolation<EmployeeDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!departments.containsKey(dto.getDepartmentId())) {
+            return "Department not found";
+        }
+        if (!roles.containsKey(dto.getRoleId())) {
+            return "Role not found";
+        }
+        if (takenEmails.contains(dto.getEmail())) {
+            return "Email already exists";
+        }
+        return null;
+    }
+
+    // Sends the queued inserts as one JDBC batch and detaches them so the persistence context stays small.
+    private void flushBatch(Map<Integer, Employee> pending, BulkCreateResultDto.RowResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        pending.forEach((index, employee) -> results[index] = BulkCreateResultDto.RowResult.created(index, employee.getId()));
+        pending.clear();
+        entityManager.clear();
+    }
+
+    @QueryBudget(4)
+    @Transactional
     public EmployeeDto updateEmployee(Long id, EmployeeDto dto) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
+        EmployeeChangedEvent.Snapshot before = EmployeeChangedEvent.Snapshot.of(employee);
 
         Department dept = departmentRepository.findById(dto.getDepartmentId())
                 .orElseThrow(() -> new RuntimeException("Department not found"));
@@ -71,19 +324,48 @@ public class EmployeeService {
         employee.setDepartment(dept);
         employee.setRole(role);
 
-        return toDto(employeeRepository.save(employee));
+        employee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(before, EmployeeChangedEvent.Snapshot.of(employee)));
+        collectionVersions.bump(CollectionVersions.Collection.EMPLOYEES);
+        return toDto(employee);
     }
 
+    @QueryBudget(2)
+    @Transactional
     public void deleteEmployee(Long id) {
-        employeeRepository.deleteById(id);
+        employeeRepository.findById(id).ifPresent(employee -> {
+            employeeRepository.delete(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
+            collectionVersions.bump(CollectionVersions.Collection.EMPLOYEES);
+        });
     }
 
-    private EmployeeDto toDto(Employee e) {
-        return new EmployeeDto(
-                e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getPhone(),
-                e.getHireDate(), e.getSalary(),
-                e.getDepartment().getId(), e.getDepartment().getName(),
-                e.getRole().getId(), e.getRole().getName()
-        );
+    // Package-private for EmployeeMappingBenchmark
+    static EmployeeDto toDto(Employee e) {
+        long start = System.nanoTime();
+        try {
+            return new EmployeeDto(
+                    e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getPhone(),
+                    e.getHireDate(), e.getSalary(),
+                    e.getDepartment().getId(), e.getDepartment().getName(),
+                    e.getRole().getId(), e.getRole().getName()
+            );
+        } finally {
+            RequestTimings.record(RequestTimings.Phase.MAPPING, start);
+        }
+    }
+
+    private static class PageSpec {
+        private final EmployeeSort sort;
+        private final boolean descending;
+        private final EmployeeCursor after;
+        private final int size;
+
+        private PageSpec(EmployeeSort sort, boolean descending, EmployeeCursor after, int size) {
+            this.sort = sort;
+            this.descending = descending;
+            this.after = after;
+            this.size = size;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,348 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.EmployeeSuggestionDto;
+import com.example.hrm.repo.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * In-process type-ahead index over employee first name, last name and email.
+ *
+ * <p>Every indexed string contributes its character trigrams plus its one- and two-character
+ * prefixes; each gram maps to a sorted posting list of int document ordinals. A query of three or
+ * more characters intersects the posting lists of its trigrams, shorter queries read one prefix
+ * list, and candidates are verified and ranked into a top-k heap. The index is built at startup
+ * and kept current by {@link EmployeeSuggestListener}.
+ */
+@Service
+public class EmployeeSuggestIndex {
+    private static final char PREFIX_MARK = '\u0001';
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingInt((Hit h) -> h.score)
+            .thenComparing((Hit h) -> h.doc.fullLower.length(), Comparator.reverseOrder())
+            .thenComparing((Hit h) -> h.doc.id, Comparator.reverseOrder());
+
+    private final EmployeeRepository employeeRepository;
+    // Searches only read the segment, so lookups run concurrently and only writes are exclusive
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingDuringRebuild;
+    private boolean rebuildStarted;
+
+    @Autowired
+    public EmployeeSuggestIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * Rebuilds the index from the database. Changes that arrive while the rows are being read are
+     * applied to the current index and replayed onto the new one before it is installed; those that
+     * arrive before the first rebuild, such as seeded rows, are dropped since it reads them anyway.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+            rebuildStarted = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Segment fresh = new Segment();
+        try (Stream<EmployeeSuggestionDto> rows = employeeRepository.streamAllSuggestions()) {
+            rows.forEach(row -> fresh.add(new Doc(row)));
+        }
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(op -> op.accept(fresh));
+            pendingDuringRebuild = null;
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(EmployeeSuggestionDto employee) {
+        Doc doc = new Doc(employee);
+        apply(s -> s.add(doc));
+    }
+
+    public void remove(Long id) {
+        apply(s -> s.remove(id));
+    }
+
+    /**
+     * Applies the changes of one committed transaction under a single lock; a null entry removes
+     * the employee.
+     */
+    public void update(Map<Long, EmployeeSuggestionDto> changes) {
+        List<Doc> saved = new ArrayList<>(changes.size());
+        List<Long> removed = new ArrayList<>();
+        changes.forEach((id, entry) -> {
+            if (entry == null) {
+                removed.add(id);
+            } else {
+                saved.add(new Doc(entry));
+            }
+        });
+        apply(s -> {
+            removed.forEach(s::remove);
+            saved.forEach(s::add);
+        });
+    }
+
+    public List<EmployeeSuggestionDto> suggest(String query, int limit) {
+        String q = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(q, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Segment> op) {
+        lock.writeLock().lock();
+        try {
+            if (!rebuildStarted) {
+                return;
+            }
+            op.accept(segment);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(op);
+            }
+            if (segment.needsCompaction()) {
+                segment = segment.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long gram(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static void trigrams(String s, LongConsumer sink) {
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            sink.accept(gram(s.charAt(i), s.charAt(i + 1), s.charAt(i + 2)));
+        }
+    }
+
+    private static void prefixes(String s, LongConsumer sink) {
+        if (s.length() >= 1) {
+            sink.accept(gram(PREFIX_MARK, s.charAt(0), '\0'));
+        }
+        if (s.length() >= 2) {
+            sink.accept(gram(PREFIX_MARK, s.charAt(0), s.charAt(1)));
+        }
+    }
+
+    private static final class Doc {
+        private final long id;
+        private final EmployeeSuggestionDto source;
+        private final String firstLower;
+        private final String lastLower;
+        private final String fullLower;
+        private final String emailLower;
+
+        private Doc(EmployeeSuggestionDto source) {
+            this.id = source.getId();
+            this.source = source;
+            this.firstLower = lower(source.getFirstName());
+            this.lastLower = lower(source.getLastName());
+            this.fullLower = firstLower + " " + lastLower;
+            this.emailLower = lower(source.getEmail());
+        }
+
+        private static String lower(String s) {
+            return s == null ? "" : s.toLowerCase(Locale.ROOT);
+        }
+
+        private void forEachGram(LongConsumer sink) {
+            trigrams(fullLower, sink);
+            trigrams(emailLower, sink);
+            prefixes(firstLower, sink);
+            prefixes(lastLower, sink);
+            prefixes(emailLower, sink);
+        }
+
+        // 0 means the document does not actually match (a trigram hit that is not a substring).
+        private int score(String q) {
+            if (lastLower.equals(q) || firstLower.equals(q)) {
+                return 100;
+            }
+            if (lastLower.startsWith(q)) {
+                return 80;
+            }
+            if (fullLower.startsWith(q)) {
+                return 75;
+            }
+            if (emailLower.startsWith(q)) {
+                return 60;
+            }
+            if (fullLower.contains(q)) {
+                return 40;
+            }
+            if (emailLower.contains(q)) {
+                return 30;
+            }
+            return 0;
+        }
+    }
+
+    private static final class Hit {
+        private final Doc doc;
+        private final int score;
+
+        private Hit(Doc doc, int score) {
+            this.doc = doc;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Append-only document store with posting lists. Ordinals only grow, so every posting list is
+     * sorted; updates and deletes leave a tombstone that is dropped at the next compaction.
+     */
+    private static final class Segment {
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Long, IntList> postings = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private int deletedCount;
+
+        private void add(Doc doc) {
+            remove(doc.id);
+            int ordinal = docs.size();
+            docs.add(doc);
+            ordinals.put(doc.id, ordinal);
+            doc.forEachGram(gram -> postings.computeIfAbsent(gram, k -> new IntList()).addIfNotLast(ordinal));
+        }
+
+        private void remove(long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                deleted.set(ordinal);
+                deletedCount++;
+            }
+        }
+
+        private boolean needsCompaction() {
+            return deletedCount > 1024 && deletedCount > docs.size() / 4;
+        }
+
+        private Segment compact() {
+            Segment compacted = new Segment();
+            for (int i = 0; i < docs.size(); i++) {
+                if (!deleted.get(i)) {
+                    compacted.add(docs.get(i));
+                }
+            }
+            return compacted;
+        }
+
+        private List<EmployeeSuggestionDto> search(String q, int limit) {
+            IntList[] lists = postingsFor(q);
+            if (lists == null) {
+                return List.of();
+            }
+            Arrays.sort(lists, Comparator.comparingInt(IntList::size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            IntList smallest = lists[0];
+            candidates:
+            for (int i = 0; i < smallest.size(); i++) {
+                int ordinal = smallest.get(i);
+                if (deleted.get(ordinal)) {
+                    continue;
+                }
+                for (int l = 1; l < lists.length; l++) {
+                    if (!lists[l].contains(ordinal)) {
+                        continue candidates;
+                    }
+                }
+                Doc doc = docs.get(ordinal);
+                int score = doc.score(q);
+                if (score == 0) {
+                    continue;
+                }
+                top.offer(new Hit(doc, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            EmployeeSuggestionDto[] result = new EmployeeSuggestionDto[top.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = top.poll().doc.source;
+            }
+            return List.of(result);
+        }
+
+        private IntList[] postingsFor(String q) {
+            if (q.length() < 3) {
+                IntList list = postings.get(gram(PREFIX_MARK, q.charAt(0), q.length() == 2 ? q.charAt(1) : '\0'));
+                return list == null ? null : new IntList[]{list};
+            }
+            IntList[] lists = new IntList[q.length() - 2];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(gram(q.charAt(i), q.charAt(i + 1), q.charAt(i + 2)));
+                if (lists[i] == null) {
+                    return null;
+                }
+            }
+            return lists;
+        }
+    }
+
+    // Growable sorted int array
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void addIfNotLast(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.EmployeeSuggestionDto;
+import com.example.hrm.model.Employee;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JPA lifecycle listener that keeps {@link EmployeeSuggestIndex} in step with the employees table.
+ * Hibernate obtains it from the Spring context; the index is resolved lazily because the entity
+ * manager factory is created before it. The changes of a transaction are collected per employee
+ * and applied together once it commits, so bulk inserts and seeding register one callback per
+ * transaction rather than one per row.
+ */
+public class EmployeeSuggestListener {
+
+    private final ObjectProvider<EmployeeSuggestIndex> index;
+
+    public EmployeeSuggestListener(ObjectProvider<EmployeeSuggestIndex> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Employee employee) {
+        afterCommit(employee.getId(), new EmployeeSuggestionDto(
+                employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail()));
+    }
+
+    @PostRemove
+    public void onRemoved(Employee employee) {
+        afterCommit(employee.getId(), null);
+    }
+
+    // A null entry removes the employee
+    @SuppressWarnings("unchecked")
+    private void afterCommit(Long id, EmployeeSuggestionDto entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.getObject().update(Collections.singletonMap(id, entry));
+            return;
+        }
+        Map<Long, EmployeeSuggestionDto> changes =
+                (Map<Long, EmployeeSuggestionDto>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            Map<Long, EmployeeSuggestionDto> collected = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.getObject().update(collected);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeSuggestListener.this);
+                }
+            });
+            changes = collected;
+        }
+        changes.put(id, entry);
+    }
+}
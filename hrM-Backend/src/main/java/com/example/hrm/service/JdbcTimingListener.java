@@ -0,0 +1,48 @@
+package com.example.hrm.service;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds time spent acquiring connections and executing statements
+ * to the {@link RequestTimings.Phase#DB} phase of the current request, and counts the statements.
+ * Hibernate creates one per session (hibernate.session.events.auto), and a session is used by one
+ * thread at a time.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long connectionStart;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTimings.record(RequestTimings.Phase.DB, connectionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.record(RequestTimings.Phase.DB, statementStart);
+        RequestTimings.statementExecuted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.record(RequestTimings.Phase.DB, batchStart);
+        RequestTimings.statementExecuted();
+    }
+}
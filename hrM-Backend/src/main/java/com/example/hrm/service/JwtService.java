@@ -1,16 +1,33 @@
 package com.example.hrm.service;
 
+import com.example.hrm.dto.CacheStatsDto;
+import com.example.hrm.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
@@ -19,6 +36,44 @@ public class JwtService {
     private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
     private static final long JWT_TOKEN_VALIDITY = 5 * 60 * 60; // 5 hours
 
+    public static final String ROLE_CLAIM = "role";
+    public static final String EMAIL_CLAIM = "email";
+    public static final String VERSION_CLAIM = "ver";
+
+    private final Key signKey;
+    private final JwtParser parser;
+    private final TokenVersionService tokenVersionService;
+
+    // Claims of tokens whose signature has already been verified, keyed by the SHA-256 of the
+    // token so raw bearer tokens are not retained. Entries expire together with their token.
+    private final Cache<String, Claims> verifiedTokens;
+
+    // Signature verification (verified-token cache misses only) and the per-request claim checks
+    private final Timer verifyTimer;
+    private final Timer validateTimer;
+
+    @Autowired
+    public JwtService(TokenVersionService tokenVersionService, MeterRegistry meterRegistry,
+                      @Value("${hrm.jwt.cache.max-size:10000}") long cacheMaxSize) {
+        this.tokenVersionService = tokenVersionService;
+        this.verifyTimer = Timer.builder("hrm.jwt.verify")
+                .description("JWT signature verification and parsing")
+                .register(meterRegistry);
+        this.validateTimer = Timer.builder("hrm.jwt.validate")
+                .description("JWT subject, expiry and revocation checks")
+                .register(meterRegistry);
+        this.signKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .expireAfter(Expiry.creating((String key, Claims claims) ->
+                        Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -32,21 +87,46 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Returns the verified claims of {@code token}. The signature is checked and the payload parsed
+     * only the first time a token is seen; later calls are served from the verified-token cache.
+     */
+    public Claims extractAllClaims(String token) {
+        String key = tokenHash(token);
+        Claims claims = verifiedTokens.getIfPresent(key);
+        if (claims == null) {
+            long start = System.nanoTime();
+            try {
+                claims = parser.parseClaimsJws(token).getBody();
+            } finally {
+                verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(extractAllClaims(token), userDetails);
+    }
+
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        long start = System.nanoTime();
+        final String username = claims.getSubject();
+        boolean valid = username.equals(userDetails.getUsername())
+                && !isTokenExpired(claims) && !isTokenRevoked(claims);
+        validateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return valid;
+    }
+
+    // Tokens issued before versions were embedded carry no version claim and are only checked for expiry.
+    private boolean isTokenRevoked(Claims claims) {
+        return claims.containsKey(VERSION_CLAIM)
+                && !tokenVersionService.isCurrent(claims.getSubject(), claims.get(VERSION_CLAIM, Integer.class));
     }
 
     public String generateToken(String userName) {
@@ -54,18 +134,40 @@ public class JwtService {
         return createToken(claims, userName);
     }
 
+    /**
+     * Issues a token that also carries the user's role, email and current token version, which is
+     * enough to authenticate later requests without loading the user.
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLE_CLAIM, user.getRole());
+        claims.put(EMAIL_CLAIM, user.getEmail());
+        claims.put(VERSION_CLAIM, tokenVersionService.currentVersion(user.getUsername()));
+        return createToken(claims, user.getUsername());
+    }
+
     private String createToken(Map<String, Object> claims, String userName) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(userName)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_TOKEN_VALIDITY * 1000))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key getSignKey() {
-        byte[] keyBytes = java.util.Base64.getDecoder().decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public CacheStatsDto cacheStats() {
+        CacheStats stats = verifiedTokens.stats();
+        return new CacheStatsDto("verifiedTokens", verifiedTokens.estimatedSize(), stats.hitCount(),
+                stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+
+    private static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-} 
\ No newline at end of file
+} 
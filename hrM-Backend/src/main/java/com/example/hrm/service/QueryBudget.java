@@ -0,0 +1,22 @@
+package com.example.hrm.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements a service or controller method may issue, including those of
+ * the methods it calls. On a controller handler it also replaces {@code hrm.query-budget.request-budget}
+ * as the budget of the whole request. Enforced by {@link com.example.hrm.config.QueryBudgetInspector}
+ * according to {@code hrm.query-budget.mode}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /** Maximum number of statements; negative for no limit, leaving only the repeated-select check. */
+    int value();
+}
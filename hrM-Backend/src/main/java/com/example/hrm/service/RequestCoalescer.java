@@ -0,0 +1,91 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.CoalescingStatsDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical reads: while a load for a key is running, other callers
+ * asking for the same key wait for its result instead of issuing their own query. Callers give
+ * up waiting after {@code hrm.coalescing.wait-timeout} and load on their own.
+ *
+ * <p>Keys should include the collection version (see {@link CollectionVersions}) so that a caller
+ * only joins a load that started after the last write it could have observed. Calls made inside
+ * a transaction are never coalesced, since they may need to see their own uncommitted writes.
+ * Shared results must be treated as read-only.
+ */
+@Service
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long waitTimeoutMillis;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    @Autowired
+    public RequestCoalescer(@Value("${hrm.coalescing.wait-timeout:PT5S}") Duration waitTimeout) {
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        calls.increment();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            executions.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader == null) {
+            executions.increment();
+            try {
+                T result = loader.get();
+                mine.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        collapsed.increment();
+        try {
+            return (T) leader.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        }
+    }
+
+    public CoalescingStatsDto stats() {
+        return new CoalescingStatsDto(calls.sum(), executions.sum(), collapsed.sum(), timeouts.sum(), inFlight.size());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.hrm.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Phase timings of the API request being handled on the current thread, reported in the
+ * Server-Timing header and the slow-request log. ServerTimingFilter opens one per request; code
+ * along the request path adds the time it spent to a phase. Phases may nest (user lookup is part of
+ * auth, lazy loads count towards db and mapping). All static methods are no-ops outside a request.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        AUTH("auth", "Authentication"),
+        USER("user", "User lookup"),
+        DB("db", "JDBC"),
+        MAPPING("map", "DTO mapping"),
+        SERIALIZATION("ser", "Response serialization");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long serializationStart = -1;
+    private long endNanos = -1;
+    private int statements;
+
+    private RequestTimings() {
+    }
+
+    /** Starts timing a request on the current thread. */
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /** Stops timing on the current thread; the returned timings stay readable. */
+    public static void end(RequestTimings timings) {
+        if (timings.serializationStart >= 0) {
+            timings.phaseNanos[Phase.SERIALIZATION.ordinal()] += System.nanoTime() - timings.serializationStart;
+            timings.serializationStart = -1;
+        }
+        timings.endNanos = System.nanoTime();
+        CURRENT.remove();
+    }
+
+    /** Adds the time since {@code startNanos} (a {@link System#nanoTime()} reading) to {@code phase}. */
+    public static void record(Phase phase, long startNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.phaseNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    public static void statementExecuted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.statements++;
+        }
+    }
+
+    /** Marks the start of response body serialization, which lasts until the request ends. */
+    public static void serializationStarted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.serializationStart < 0) {
+            timings.serializationStart = System.nanoTime();
+        }
+    }
+
+    public long totalNanos() {
+        return (endNanos >= 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    /** Completed phases in milliseconds, in {@link Phase} order; phases that took no time are left out. */
+    public Map<String, Double> phaseMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            if (phaseNanos[phase.ordinal()] > 0) {
+                millis.put(phase.metric, phaseNanos[phase.ordinal()] / 1_000_000.0);
+            }
+        }
+        return millis;
+    }
+
+    /**
+     * Renders the Server-Timing header value, e.g.
+     * {@code auth;dur=0.41;desc="Authentication", db;dur=1.20;desc="JDBC (2 statements)", total;dur=2.50}.
+     * Serialization is only included once it has finished.
+     */
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos <= 0 && !(phase == Phase.DB && statements > 0)) {
+                continue;
+            }
+            String description = phase == Phase.DB
+                    ? phase.description + " (" + statements + (statements == 1 ? " statement)" : " statements)")
+                    : phase.description;
+            header.append(phase.metric).append(";dur=").append(millis(nanos))
+                    .append(";desc=\"").append(description).append("\", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos())).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
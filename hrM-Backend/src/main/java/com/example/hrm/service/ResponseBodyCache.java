@@ -0,0 +1,192 @@
+package com.example.hrm.service;
+
+import com.example.hrm.config.WireFormat;
+import com.example.hrm.dto.CacheStatsDto;
+import com.example.hrm.dto.ResponseCacheStatsDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of fully serialized response bodies, one entry per {@link WireFormat}, plus a gzipped copy
+ * for bodies above {@code hrm.response-cache.gzip-min-size}. Each entry remembers the collection ETag it was
+ * rendered under; once a write bumps the version the entry no longer matches and is re-rendered
+ * on the next request, so service writes invalidate it without touching the cache directly.
+ */
+@Service
+public class ResponseBodyCache {
+
+    private final Map<WireFormat, ObjectWriter> writers = new EnumMap<>(WireFormat.class);
+    private final int gzipMinSize;
+    private final Cache<String, Body> bodies;
+    // An entry from an older version is a Caffeine hit but still has to be re-rendered, so hits
+    // are counted here as requests answered without rendering.
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+    private final LongAdder gzipBytesServed = new LongAdder();
+
+    @Autowired
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             MappingJackson2CborHttpMessageConverter cborConverter,
+                             MappingJackson2SmileHttpMessageConverter smileConverter,
+                             @Value("${hrm.response-cache.max-bytes:33554432}") long maxBytes,
+                             @Value("${hrm.response-cache.gzip-min-size:1024}") int gzipMinSize) {
+        writers.put(WireFormat.JSON, objectMapper.writer());
+        writers.put(WireFormat.CBOR, cborConverter.getObjectMapper().writer());
+        writers.put(WireFormat.SMILE, smileConverter.getObjectMapper().writer());
+        this.gzipMinSize = gzipMinSize;
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Body body) -> body.weight())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Answers from the cached {@code format} bytes for {@code key} if they were rendered under
+     * {@code etag} (already {@link WireFormat#tag tagged} for the format), otherwise loads,
+     * serializes and caches the value first.
+     */
+    public ResponseEntity<byte[]> respond(String key, WireFormat format, String etag, CacheControl cacheControl,
+                                          String acceptEncoding, Supplier<?> loader) {
+        requests.increment();
+        String formatKey = format.name() + ":" + key;
+        Body body = bodies.getIfPresent(formatKey);
+        if (body == null || !body.etag.equals(etag)) {
+            renders.increment();
+            body = render(format, etag, loader.get());
+            bodies.put(formatKey, body);
+        }
+
+        ResponseEntity.BodyBuilder response = format.ok(etag, cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip != null && acceptsGzip(acceptEncoding)) {
+            gzipBytesServed.add(body.gzip.length);
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip);
+        }
+        bytesServed.add(body.bytes.length);
+        return response.body(body.bytes);
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip: {@code gzip} or {@code x-gzip} listed
+     * with a q-value above 0, or, when neither is listed, {@code *} with one.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        Double effective = gzip != null ? gzip : any;
+        return effective != null && effective > 0;
+    }
+
+    public void invalidateAll() {
+        bodies.invalidateAll();
+    }
+
+    public CacheStatsDto cacheStats() {
+        CacheStats stats = bodies.stats();
+        return new CacheStatsDto("responseBodies", bodies.estimatedSize(), hits(), misses(),
+                stats.evictionCount(), hitRate());
+    }
+
+    public ResponseCacheStatsDto stats() {
+        long cachedBytes = bodies.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+        return new ResponseCacheStatsDto(bodies.estimatedSize(), cachedBytes, hits(), misses(), hitRate(),
+                bytesServed.sum(), gzipBytesServed.sum());
+    }
+
+    private long hits() {
+        return requests.sum() - renders.sum();
+    }
+
+    private long misses() {
+        return renders.sum();
+    }
+
+    private double hitRate() {
+        long total = requests.sum();
+        return total == 0 ? 1.0 : (double) hits() / total;
+    }
+
+    private Body render(WireFormat format, String etag, Object value) {
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = writers.get(format).writeValueAsBytes(value);
+            RequestTimings.record(RequestTimings.Phase.SERIALIZATION, start);
+            return new Body(etag, bytes, bytes.length >= gzipMinSize ? gzip(bytes) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Body {
+        private final String etag;
+        private final byte[] bytes;
+        private final byte[] gzip;
+
+        private Body(String etag, byte[] bytes, byte[] gzip) {
+            this.etag = etag;
+            this.bytes = bytes;
+            this.gzip = gzip;
+        }
+
+        private int weight() {
+            return bytes.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
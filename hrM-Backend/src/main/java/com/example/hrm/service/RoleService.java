@@ -11,44 +11,64 @@ import java.util.stream.Collectors;
 @Service
 public class RoleService {
     private final RoleRepository roleRepository;
+    private final CollectionVersions collectionVersions;
+    private final RequestCoalescer requestCoalescer;
 
     @Autowired
-    public RoleService(RoleRepository roleRepository) {
+    public RoleService(RoleRepository roleRepository, CollectionVersions collectionVersions,
+                       RequestCoalescer requestCoalescer) {
         this.roleRepository = roleRepository;
+        this.collectionVersions = collectionVersions;
+        this.requestCoalescer = requestCoalescer;
     }
 
+    @QueryBudget(1)
     public List<RoleDto> getAllRoles() {
-        return roleRepository.findAll()
+        String key = "roles" + collectionVersions.etag(CollectionVersions.Collection.ROLES);
+        return requestCoalescer.execute(key, () -> roleRepository.findAll()
                 .stream()
                 .map(this::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
+    @QueryBudget(1)
     public RoleDto getRoleById(Long id) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Role not found"));
         return toDto(role);
     }
 
+    @QueryBudget(1)
     public RoleDto createRole(RoleDto dto) {
         Role role = new Role(dto.getName(), dto.getDescription());
         role = roleRepository.save(role);
+        collectionVersions.bump(CollectionVersions.Collection.ROLES);
         return toDto(role);
     }
 
+    @QueryBudget(3)
     public RoleDto updateRole(Long id, RoleDto dto) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Role not found"));
         role.setName(dto.getName());
         role.setDescription(dto.getDescription());
-        return toDto(roleRepository.save(role));
+        role = roleRepository.save(role);
+        collectionVersions.bump(CollectionVersions.Collection.ROLES);
+        return toDto(role);
     }
 
+    @QueryBudget(2)
     public void deleteRole(Long id) {
         roleRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.Collection.ROLES);
     }
 
     private RoleDto toDto(Role r) {
-        return new RoleDto(r.getId(), r.getName(), r.getDescription());
+        long start = System.nanoTime();
+        try {
+            return new RoleDto(r.getId(), r.getName(), r.getDescription());
+        } finally {
+            RequestTimings.record(RequestTimings.Phase.MAPPING, start);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counters of the Hibernate second-level and query cache regions, read from Hibernate's statistics.
+ * The same numbers are published as {@code hibernate.second.level.cache.*} meters.
+ */
+@Service
+public class SecondLevelCacheStats {
+
+    private final Statistics statistics;
+    private final CacheManager cacheManager;
+
+    // The manager Hibernate keeps its regions in; see HibernateCacheConfig
+    @Autowired
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory, CacheManager secondLevelCacheManager) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        this.cacheManager = secondLevelCacheManager;
+    }
+
+    public List<CacheStatsDto> cacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats == null) {
+                continue;
+            }
+            long hits = regionStats.getHitCount();
+            long misses = regionStats.getMissCount();
+            // Regions are unbounded, so nothing is evicted
+            stats.add(new CacheStatsDto("hibernate:" + region, size(region, regionStats), hits, misses, 0,
+                    hits + misses == 0 ? 1.0 : (double) hits / (hits + misses)));
+        }
+        return stats;
+    }
+
+    // Hibernate does not count the entries of JCache regions; ask the Caffeine cache behind them
+    private long size(String region, CacheRegionStatistics regionStats) {
+        javax.cache.Cache<?, ?> cache = cacheManager.getCache(region);
+        if (cache != null) {
+            try {
+                return cache.unwrap(Cache.class).estimatedSize();
+            } catch (IllegalArgumentException e) {
+                // Another JCache provider
+            }
+        }
+        return Math.max(0, regionStats.getElementCountInMemory());
+    }
+}
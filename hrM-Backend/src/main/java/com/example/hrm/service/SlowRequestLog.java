@@ -0,0 +1,58 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.SlowRequestDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The most recent API requests that took longer than {@code hrm.slow-requests.threshold}, with
+ * their phase timings and statement counts. Holds at most {@code hrm.slow-requests.capacity}
+ * entries; the oldest is overwritten first.
+ */
+@Service
+public class SlowRequestLog {
+
+    private final long thresholdNanos;
+
+    // Ring buffer guarded by this; next is the slot written next
+    private final SlowRequestDto[] entries;
+    private int next;
+    private int size;
+
+    @Autowired
+    public SlowRequestLog(@Value("${hrm.slow-requests.threshold:PT0.5S}") Duration threshold,
+                          @Value("${hrm.slow-requests.capacity:200}") int capacity) {
+        this.thresholdNanos = threshold.toNanos();
+        this.entries = new SlowRequestDto[Math.max(1, capacity)];
+    }
+
+    /** Records the request if it exceeded the threshold. */
+    public void record(String method, String path, int status, RequestTimings timings) {
+        long total = timings.totalNanos();
+        if (total < thresholdNanos) {
+            return;
+        }
+        SlowRequestDto entry = new SlowRequestDto(LocalDateTime.now(), method, path, status,
+                total / 1_000_000.0, timings.getStatements(), timings.phaseMillis());
+        synchronized (this) {
+            entries[next] = entry;
+            next = (next + 1) % entries.length;
+            size = Math.min(size + 1, entries.length);
+        }
+    }
+
+    /** Recorded requests, newest first. */
+    public synchronized List<SlowRequestDto> recent() {
+        List<SlowRequestDto> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[(next - i + entries.length) % entries.length]);
+        }
+        return recent;
+    }
+}
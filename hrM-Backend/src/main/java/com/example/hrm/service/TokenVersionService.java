@@ -0,0 +1,71 @@
+package com.example.hrm.service;
+
+import com.example.hrm.repo.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user token versions. Every issued JWT carries the user's current version; bumping it
+ * invalidates all tokens issued before, without a database lookup on the request path. Versions
+ * are stored in the {@code users.token_version} column and mirrored in memory: the table is loaded
+ * at startup, and users created later are read on first use. Tokens of unknown users are never
+ * current.
+ */
+@Service
+public class TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenVersionService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Object[] row : userRepository.findAllTokenVersions()) {
+            versions.put((String) row[0], (Integer) row[1]);
+        }
+    }
+
+    /** The version to embed in new tokens for {@code username}; 0 for an unknown user. */
+    public int currentVersion(String username) {
+        return lookup(username).orElse(0);
+    }
+
+    /**
+     * Revokes every token issued so far for {@code username}. Call after logout and whenever the
+     * user's role, email or enabled flag changes.
+     */
+    public synchronized int revoke(String username) {
+        // Serialized so concurrent revocations cannot install their read-backs out of order
+        userRepository.incrementTokenVersion(username);
+        int version = userRepository.findTokenVersion(username).orElse(0);
+        versions.put(username, version);
+        return version;
+    }
+
+    public boolean isCurrent(String username, Integer tokenVersion) {
+        return tokenVersion != null && lookup(username).map(tokenVersion::equals).orElse(false);
+    }
+
+    private Optional<Integer> lookup(String username) {
+        Integer version = versions.get(username);
+        if (version != null) {
+            return Optional.of(version);
+        }
+        // Unknown users are not remembered, so a user created later is still picked up. A revocation
+        // that completed meanwhile has already installed the newer version.
+        return userRepository.findTokenVersion(username).map(loaded -> {
+            Integer installed = versions.putIfAbsent(username, loaded);
+            return installed != null ? installed : loaded;
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.hrm;
+
+import com.example.hrm.dto.DepartmentDto;
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.RoleDto;
+import com.example.hrm.service.DepartmentService;
+import com.example.hrm.service.EmployeeService;
+import com.example.hrm.service.RoleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base for tests that work on employees of their own. Each test gets a department and a role
+ * created for it, so nothing depends on the demo seed, and every employee, department and role
+ * created through these helpers is deleted again after the test.
+ */
+@SpringBootTest
+public abstract class EmployeeFixtureTest {
+
+    @Autowired
+    protected EmployeeService employeeService;
+
+    @Autowired
+    protected DepartmentService departmentService;
+
+    @Autowired
+    protected RoleService roleService;
+
+    private final List<Long> employees = new ArrayList<>();
+    private final List<Long> departments = new ArrayList<>();
+    private final List<Long> roles = new ArrayList<>();
+
+    protected DepartmentDto department;
+    protected RoleDto role;
+
+    @BeforeEach
+    void createFixtureGroups() {
+        department = createDepartment(getClass().getSimpleName());
+        role = createRole(getClass().getSimpleName());
+    }
+
+    @AfterEach
+    void deleteFixtureData() {
+        employees.forEach(employeeService::deleteEmployee);
+        employees.clear();
+        departments.forEach(departmentService::deleteDepartment);
+        departments.clear();
+        roles.forEach(roleService::deleteRole);
+        roles.clear();
+    }
+
+    protected DepartmentDto createDepartment(String name) {
+        DepartmentDto created = departmentService.createDepartment(new DepartmentDto(null, name, "Created by a test"));
+        departments.add(created.getId());
+        return created;
+    }
+
+    protected RoleDto createRole(String name) {
+        RoleDto created = roleService.createRole(new RoleDto(null, name, "Created by a test"));
+        roles.add(created.getId());
+        return created;
+    }
+
+    /**
+     * An unsaved employee in the test's department and role; adjust it with the setters before
+     * passing it to {@link #create(EmployeeDto)}.
+     */
+    protected EmployeeDto employee(String lastName, String email) {
+        return new EmployeeDto(null, "Fixture", lastName, email, "+1-555-0100", LocalDate.of(2020, 1, 6), 50000.0,
+                department.getId(), null, role.getId(), null);
+    }
+
+    protected EmployeeDto create(EmployeeDto employee) {
+        EmployeeDto created = employeeService.createEmployee(employee);
+        employees.add(created.getId());
+        return created;
+    }
+
+    protected EmployeeDto create(String lastName, String email) {
+        return create(employee(lastName, email));
+    }
+
+    /**
+     * Deletes the employee with {@code id} after the test, for employees created by other means.
+     */
+    protected void track(Long id) {
+        employees.add(id);
+    }
+
+    /**
+     * Deletes {@code employee} now rather than after the test.
+     */
+    protected void delete(EmployeeDto employee) {
+        employeeService.deleteEmployee(employee.getId());
+        employees.remove(employee.getId());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.hrm.benchmark;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of employee lists as written by the list endpoints, with the same
+ * ObjectMapper configuration Spring Boot builds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeJsonBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<EmployeeDto> employees;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, EmployeeDto.class));
+        employees = new ArrayList<>(size);
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < size; i++) {
+            employees.add(new EmployeeDto((long) i + 1, "First" + i, "Last" + i, "employee" + i + "@company.com",
+                    "555-" + (1000 + i % 9000), start.plusDays(i % 3000), 40_000.0 + i % 80_000,
+                    (long) (i % 4) + 1, "Department " + i % 4, (long) (i % 5) + 1, "Role " + i % 5));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(employees);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.hrm.benchmark;
+
+import com.example.hrm.config.JwtAuthenticationFilter;
+import com.example.hrm.model.User;
+import com.example.hrm.repo.UserRepository;
+import com.example.hrm.service.CustomUserDetailsService;
+import com.example.hrm.service.JwtService;
+import com.example.hrm.service.TokenVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One authenticated request through {@link JwtAuthenticationFilter}: token lookup, user resolution
+ * (from the user cache, or from the claims in stateless mode) and security context setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean statelessAuth;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final AtomicReference<Authentication> authenticated = new AtomicReference<>();
+    private final FilterChain chain =
+            (request, response) -> authenticated.set(SecurityContextHolder.getContext().getAuthentication());
+
+    @Setup
+    public void setUp() {
+        User user = new User(1L, "admin", "", "admin@company.com", "ROLE_ADMIN", true);
+        // Stands in for the JPA repository; only reached on a user-cache miss
+        UserRepository users = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByUsername" -> Optional.of(user);
+                    case "findTokenVersion" -> Optional.of(user.getTokenVersion());
+                    default -> null;
+                });
+        JwtService jwtService = new JwtService(new TokenVersionService(users), new SimpleMeterRegistry(), 10_000);
+        filter = new JwtAuthenticationFilter(jwtService,
+                new CustomUserDetailsService(users, Duration.ofMinutes(5), 10_000), statelessAuth);
+        authorization = "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return authenticated.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
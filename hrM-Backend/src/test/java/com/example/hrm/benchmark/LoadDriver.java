@@ -0,0 +1,332 @@
+package com.example.hrm.benchmark;
+
+import com.example.hrm.HrmApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load test. Starts the application in-process against a synthetic H2 dataset
+ * (the {@code seed} profile), logs in through {@code /api/auth/login} and lets {@code clients}
+ * threads send a weighted mix of employee, department and role requests back to back. Latencies
+ * are recorded per endpoint in HdrHistograms; after the run {@code target/loadtest} holds a text
+ * report and a JSON report for diffing between builds, plus one {@code .hgrm} percentile
+ * distribution per endpoint. Run with:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.hrm.benchmark.LoadDriver \
+ *     -Dexec.args="clients=64 seconds=60 warmup=10 employees=100000 mix=employee-by-id:40,departments:10"
+ * </pre>
+ *
+ * Being closed-loop, a slow response delays that client's next request; the percentiles therefore
+ * describe service time at the achieved throughput, not latency at a fixed arrival rate.
+ */
+public class LoadDriver {
+    private static final String DEFAULT_MIX = "employee-by-id:30,employee-page:15,employee-search:10,"
+            + "employee-suggest:10,employee-update:5,departments:10,department-by-id:5,roles:10,role-by-id:5";
+
+    private final Map<String, String> options;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Random setupRandom = new Random(42);
+
+    private String base;
+    private String authorization;
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final List<JsonNode> employeeBodies = new ArrayList<>();
+    private final List<Long> departmentIds = new ArrayList<>();
+    private final List<Long> roleIds = new ArrayList<>();
+
+    private LoadDriver(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("clients", "64");
+        options.put("seconds", "60");
+        options.put("warmup", "10");
+        options.put("employees", "100000");
+        options.put("seed", "42");
+        options.put("mix", DEFAULT_MIX);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0 || !options.containsKey(arg.substring(0, eq))) {
+                throw new IllegalArgumentException("Unknown option " + arg + "; expected one of " + options.keySet());
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        new LoadDriver(options).run();
+    }
+
+    private void run() throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(HrmApplication.class).profiles("seed");
+        // Command-line arguments take precedence over application-seed.properties
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--hrm.seed.employees=" + options.get("employees"),
+                "--hrm.seed.random-seed=" + options.get("seed"),
+                "--hrm.seed.users=100",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.hrm.config.SyntheticDataGenerator=INFO")) {
+            base = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            login();
+            loadFixtures();
+            List<Endpoint> endpoints = endpoints(parseMix(options.get("mix")));
+            drive(endpoints);
+            report(endpoints);
+        }
+    }
+
+    private void login() throws IOException, InterruptedException {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .build();
+        authorization = "Bearer " + mapper.readTree(send(login).body()).get("token").asText();
+    }
+
+    // Ids to address requests at, and a sample of employee bodies to PUT back unchanged
+    private void loadFixtures() throws IOException, InterruptedException {
+        String cursor = null;
+        for (int page = 0; page < 20; page++) {
+            JsonNode body = getJson("/api/employees?limit=100&fields=id"
+                    + (cursor != null ? "&cursor=" + cursor : ""));
+            body.get("items").forEach(item -> employeeIds.add(item.get("id").asLong()));
+            if (body.get("nextCursor").isNull()) {
+                break;
+            }
+            cursor = body.get("nextCursor").asText();
+        }
+        for (int i = 0; i < 200 && !employeeIds.isEmpty(); i++) {
+            employeeBodies.add(getJson("/api/employees/" + pick(employeeIds, setupRandom)));
+        }
+        getJson("/api/departments").forEach(d -> departmentIds.add(d.get("id").asLong()));
+        getJson("/api/roles").forEach(r -> roleIds.add(r.get("id").asLong()));
+    }
+
+    private List<Endpoint> endpoints(Map<String, Integer> mix) {
+        Map<String, Function<Random, HttpRequest>> known = new LinkedHashMap<>();
+        known.put("employee-by-id", r -> get("/api/employees/" + pick(employeeIds, r)));
+        known.put("employee-page", r -> get("/api/employees?limit=20&sort="
+                + pick(List.of("id", "lastName", "hireDate", "salary,desc"), r)));
+        known.put("employee-list", r -> get("/api/employees"));
+        known.put("employee-search", r -> get("/api/employees/search?limit=20&departmentId="
+                + pick(departmentIds, r) + "&minSalary=" + (50_000 + r.nextInt(50_000))));
+        known.put("employee-suggest", r -> get("/api/employees/suggest?q="
+                + pick(List.of("jo", "mar", "smi", "da", "lee", "wil", "an", "tho"), r)));
+        known.put("employee-update", r -> {
+            JsonNode employee = pick(employeeBodies, r);
+            return request("/api/employees/" + employee.get("id").asLong())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(employee.toString()))
+                    .build();
+        });
+        known.put("departments", r -> get("/api/departments"));
+        known.put("department-by-id", r -> get("/api/departments/" + pick(departmentIds, r)));
+        known.put("roles", r -> get("/api/roles"));
+        known.put("role-by-id", r -> get("/api/roles/" + pick(roleIds, r)));
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        mix.forEach((name, weight) -> {
+            Function<Random, HttpRequest> factory = known.get(name);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown endpoint " + name + "; expected one of " + known.keySet());
+            }
+            endpoints.add(new Endpoint(name, weight, factory));
+        });
+        return endpoints;
+    }
+
+    private void drive(List<Endpoint> endpoints) throws InterruptedException {
+        int clients = Integer.parseInt(options.get("clients"));
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(Long.parseLong(options.get("warmup"))).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(Long.parseLong(options.get("seconds"))).toNanos();
+        int totalWeight = endpoints.stream().mapToInt(e -> e.weight).sum();
+        long seed = Long.parseLong(options.get("seed"));
+
+        Thread[] threads = new Thread[clients];
+        for (int c = 0; c < clients; c++) {
+            Random random = new Random(seed * 31 + c);
+            threads[c] = new Thread(() -> {
+                long now = System.nanoTime();
+                while (now < end) {
+                    Endpoint endpoint = choose(endpoints, random.nextInt(totalWeight));
+                    HttpRequest request = endpoint.factory.apply(random);
+                    boolean ok;
+                    try {
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        ok = status >= 200 && status < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long done = System.nanoTime();
+                    if (now >= warmupEnd) {
+                        if (ok) {
+                            endpoint.latencies.recordValue((done - now) / 1_000);
+                        } else {
+                            endpoint.errors.incrementAndGet();
+                        }
+                    }
+                    now = done;
+                }
+            }, "load-client-" + c);
+            threads[c].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private void report(List<Endpoint> endpoints) throws IOException {
+        double seconds = Long.parseLong(options.get("seconds"));
+        Path dir = Path.of("target", "loadtest");
+        Files.createDirectories(dir);
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        ObjectNode json = mapper.createObjectNode();
+        ObjectNode config = json.putObject("config");
+        options.forEach(config::put);
+        config.put("java", Runtime.version().toString());
+        ArrayNode rows = json.putArray("endpoints");
+
+        StringBuilder text = new StringBuilder();
+        text.append("# HRM load test: ").append(options).append(", java ").append(Runtime.version()).append('\n');
+        text.append(String.format("%-18s %6s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "weight", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Endpoint endpoint : endpoints) {
+            Histogram h = endpoint.latencies;
+            total.add(h);
+            totalErrors += endpoint.errors.get();
+            text.append(row(endpoint.name, String.valueOf(endpoint.weight), h, endpoint.errors.get(), seconds));
+            ObjectNode row = rows.addObject();
+            row.put("endpoint", endpoint.name);
+            row.put("weight", endpoint.weight);
+            row.put("requests", h.getTotalCount());
+            row.put("errors", endpoint.errors.get());
+            row.put("throughput", h.getTotalCount() / seconds);
+            row.put("p50Ms", millis(h.getValueAtPercentile(50)));
+            row.put("p99Ms", millis(h.getValueAtPercentile(99)));
+            row.put("p999Ms", millis(h.getValueAtPercentile(99.9)));
+            row.put("maxMs", millis(h.getMaxValue()));
+            try (PrintStream out = new PrintStream(dir.resolve(endpoint.name + ".hgrm").toFile())) {
+                h.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        text.append(row("total", "", total, totalErrors, seconds));
+        json.put("throughput", total.getTotalCount() / seconds);
+        json.put("errors", totalErrors);
+
+        Files.writeString(dir.resolve("report.txt"), text);
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(dir.resolve("report.json").toFile(), json);
+        System.out.print(text);
+        System.out.println("Reports written to " + dir.toAbsolutePath());
+    }
+
+    private static String row(String name, String weight, Histogram h, long errors, double seconds) {
+        return String.format("%-18s %6s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, weight, h.getTotalCount(),
+                errors, h.getTotalCount() / seconds, millis(h.getValueAtPercentile(50)),
+                millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] nameWeight = part.trim().split(":");
+            int weight = nameWeight.length > 1 ? Integer.parseInt(nameWeight[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(nameWeight[0].trim(), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Empty endpoint mix: " + spec);
+        }
+        return mix;
+    }
+
+    private static Endpoint choose(List<Endpoint> endpoints, int ticket) {
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight;
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        return mapper.readTree(send(get(path)).body());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private final int weight;
+        private final Function<Random, HttpRequest> factory;
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final AtomicLong errors = new AtomicLong();
+
+        private Endpoint(String name, int weight, Function<Random, HttpRequest> factory) {
+            this.name = name;
+            this.weight = weight;
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.hrm.benchmark;
+
+import com.example.hrm.HrmApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares request throughput and latency of platform-thread and virtual-thread request handling
+ * against a slow database: every JDBC statement is delayed by {@code hrm.benchmark.db-latency}.
+ * The application is started in-process twice, once per mode, with the same connection pool, and
+ * {@code GET /api/employees/{id}} is driven by a closed loop of concurrent clients. Run with:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.hrm.benchmark.ThreadModeBenchmark [-Dexec.args="clients latencyMs seconds"]
+ * </pre>
+ *
+ * The virtual-thread run needs a Java 21+ runtime; on older JVMs both runs use platform threads.
+ */
+public class ThreadModeBenchmark {
+    private static final int POOL_SIZE = 400;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 800;
+        int latencyMillis = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        Duration measured = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 20);
+
+        if (Runtime.version().feature() < 21) {
+            System.out.printf("WARNING: running on Java %d; virtual threads need Java 21+, "
+                    + "so the virtual-threads run falls back to platform threads%n", Runtime.version().feature());
+        }
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        List<String> rows = new ArrayList<>();
+        rows.add(run("platform", null, clients, latencyMillis, measured));
+        rows.add(run("virtual", "virtual-threads", clients, latencyMillis, measured));
+
+        System.out.printf("%n%d clients, %d ms per statement, %d connections, %ds measured%n",
+                clients, latencyMillis, POOL_SIZE, measured.toSeconds());
+        System.out.printf("%-10s %10s %10s %10s %10s %10s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(String mode, String profile, int clients, int latencyMillis, Duration measured)
+            throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(HrmApplication.class);
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+        // Passed as command-line arguments, which take precedence over the profile's properties files
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + mode + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--hrm.concurrency.max-requests=" + (clients * 2),
+                "--hrm.benchmark.db-latency=" + Duration.ofMillis(latencyMillis),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN")) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String base = "http://localhost:" + port;
+            HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            ObjectMapper mapper = new ObjectMapper();
+
+            String token = login(http, mapper, base);
+            long id = firstEmployeeId(http, mapper, base, token);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/employees/" + id))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+            long end = warmupEnd + measured.toNanos();
+            AtomicLong errors = new AtomicLong();
+            long[][] samples = new long[clients][];
+            Thread[] threads = new Thread[clients];
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                threads[c] = new Thread(() -> samples[client] = drive(http, request, warmupEnd, end, errors));
+                threads[c].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            long[] latencies = Arrays.stream(samples).flatMapToLong(Arrays::stream).sorted().toArray();
+            double throughput = latencies.length / (measured.toNanos() / 1e9);
+            return String.format("%-10s %10.0f %10.1f %10.1f %10.1f %10d", mode, throughput,
+                    percentile(latencies, 50), percentile(latencies, 99), percentile(latencies, 100), errors.get());
+        }
+    }
+
+    /** Sends requests back to back until {@code end}; returns the latencies recorded after warm-up. */
+    private static long[] drive(HttpClient http, HttpRequest request, long warmupEnd, long end, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long now = System.nanoTime();
+        while (now < end) {
+            boolean ok;
+            try {
+                ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long done = System.nanoTime();
+            if (now >= warmupEnd) {
+                if (!ok) {
+                    errors.incrementAndGet();
+                } else {
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = done - now;
+                }
+            }
+            now = done;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    private static String login(HttpClient http, ObjectMapper mapper, String base) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .build();
+        return mapper.readTree(http.send(login, HttpResponse.BodyHandlers.ofString()).body()).get("token").asText();
+    }
+
+    private static long firstEmployeeId(HttpClient http, ObjectMapper mapper, String base, String token)
+            throws Exception {
+        HttpRequest list = HttpRequest.newBuilder(URI.create(base + "/api/employees?limit=1"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        JsonNode page = mapper.readTree(http.send(list, HttpResponse.BodyHandlers.ofString()).body());
+        return page.get("items").get(0).get("id").asLong();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hrm.benchmark;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares payload size and (de)serialization time of JSON, CBOR and Smile for a list of
+ * 100,000 employees, with and without gzip. Run with:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.hrm.benchmark.WireFormatBenchmark [-Dexec.args=rows]
+ * </pre>
+ */
+public class WireFormatBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<EmployeeDto> employees = employees(rows);
+
+        System.out.printf("%d employees%n", rows);
+        System.out.printf("%-8s %12s %12s %12s %12s %12s%n",
+                "format", "bytes", "gzip bytes", "write ms", "gzip ms", "read ms");
+        run("json", new JsonFactory(), employees);
+        run("cbor", new CBORFactory(), employees);
+        run("smile", new SmileFactory(), employees);
+    }
+
+    private static void run(String name, JsonFactory factory, List<EmployeeDto> employees) throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, EmployeeDto.class);
+        ObjectWriter writer = mapper.writerFor(listType);
+        ObjectReader reader = mapper.readerFor(listType);
+
+        byte[] bytes = null;
+        byte[] gzipped = null;
+        long writeNanos = 0;
+        long gzipNanos = 0;
+        long readNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            bytes = writer.writeValueAsBytes(employees);
+            long written = System.nanoTime();
+            gzipped = gzip(bytes);
+            long compressed = System.nanoTime();
+            List<EmployeeDto> read = reader.readValue(bytes);
+            long done = System.nanoTime();
+            if (read.size() != employees.size()) {
+                throw new IllegalStateException(name + " round trip lost rows");
+            }
+            if (round >= WARMUP_ROUNDS) {
+                writeNanos += written - start;
+                gzipNanos += compressed - written;
+                readNanos += done - compressed;
+            }
+        }
+        System.out.printf("%-8s %12d %12d %12.1f %12.1f %12.1f%n", name, bytes.length, gzipped.length,
+                millis(writeNanos), millis(gzipNanos), millis(readNanos));
+    }
+
+    private static double millis(long totalNanos) {
+        return totalNanos / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<EmployeeDto> employees(int rows) {
+        String[] firstNames = {"John", "Jane", "Mike", "Sarah", "David", "Lisa", "Ahmed", "Mei", "Olga", "Carlos"};
+        String[] lastNames = {"Doe", "Smith", "Johnson", "Wilson", "Brown", "Davis", "Khan", "Chen", "Ivanova", "Garcia"};
+        String[] departments = {"Human Resources", "Information Technology", "Finance", "Marketing"};
+        String[] roles = {"Manager", "Software Developer", "Business Analyst", "HR Specialist", "Accountant"};
+        Random random = new Random(42);
+        List<EmployeeDto> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String first = firstNames[random.nextInt(firstNames.length)];
+            String last = lastNames[random.nextInt(lastNames.length)];
+            int department = random.nextInt(departments.length);
+            int role = random.nextInt(roles.length);
+            employees.add(new EmployeeDto((long) i + 1, first, last,
+                    first.toLowerCase() + "." + last.toLowerCase() + i + "@company.com",
+                    String.format("+1-555-%04d", random.nextInt(10_000)),
+                    LocalDate.of(2010, 1, 1).plusDays(random.nextInt(5000)),
+                    40_000 + random.nextInt(120_000) * 1.0,
+                    (long) department + 1, departments[department], (long) role + 1, roles[role]));
+        }
+        return employees;
+    }
+}
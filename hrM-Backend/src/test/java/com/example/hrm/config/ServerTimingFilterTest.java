@@ -0,0 +1,131 @@
+package com.example.hrm.config;
+
+import com.example.hrm.service.SlowRequestLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The Server-Timing header is set whether the body stays within {@code hrm.server-timing.buffer-size}
+ * or is passed through part way, and non-blocking writers reach the container's stream.
+ */
+class ServerTimingFilterTest {
+
+    private static final int BUFFER_SIZE = 64;
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(new SlowRequestLog(Duration.ofHours(1), 1),
+            true, BUFFER_SIZE);
+
+    @Test
+    void headerIsSetForBufferedBody() throws Exception {
+        byte[] body = body(BUFFER_SIZE / 2);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(apiRequest(), response, (req, res) -> res.getOutputStream().write(body));
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).contains("total");
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    void headerIsSetForBodyOverTheBufferSize() throws Exception {
+        byte[] body = body(BUFFER_SIZE * 4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(apiRequest(), response, (req, res) -> {
+            ServletOutputStream out = res.getOutputStream();
+            for (int i = 0; i < body.length; i += 16) {
+                out.write(body, i, 16);
+            }
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).contains("total");
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    void writeListenerIsHandedToTheContainerStream() throws Exception {
+        ListenerRecordingResponse response = new ListenerRecordingResponse();
+        byte[] before = body(8);
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        };
+
+        FilterChain chain = (req, res) -> {
+            ServletOutputStream out = res.getOutputStream();
+            out.write(before);
+            out.setWriteListener(listener);
+            assertThat(out.isReady()).isFalse();
+        };
+        filter.doFilter(apiRequest(), response, chain);
+
+        assertThat(response.stream.listener).isSameAs(listener);
+        assertThat(response.stream.written.toByteArray()).isEqualTo(before);
+        assertThat(response.mock.getHeader(ServerTimingFilter.SERVER_TIMING)).isNotNull();
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/employees");
+    }
+
+    private static byte[] body(int size) {
+        byte[] body = new byte[size];
+        Arrays.fill(body, (byte) 'x');
+        return body;
+    }
+
+    private static final class ListenerRecordingResponse extends HttpServletResponseWrapper {
+        private final MockHttpServletResponse mock;
+        private final RecordingStream stream = new RecordingStream();
+
+        private ListenerRecordingResponse() {
+            this(new MockHttpServletResponse());
+        }
+
+        private ListenerRecordingResponse(MockHttpServletResponse mock) {
+            super(mock);
+            this.mock = mock;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return stream;
+        }
+    }
+
+    private static final class RecordingStream extends ServletOutputStream {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private WriteListener listener;
+
+        @Override
+        public void write(int b) {
+            written.write(b);
+        }
+
+        @Override
+        public boolean isReady() {
+            return listener == null;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.dto.EmployeeDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code POST /api/employees/bulk}: invalid rows are reported at their position and skipped while
+ * the others are created, and requests over {@code hrm.employees.bulk.max-size} are rejected whole.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class EmployeeBulkCreateTest extends EmployeeFixtureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${hrm.employees.bulk.max-size}")
+    private int maxBulkSize;
+
+    @Test
+    void duplicateEmailsFailTheirRowOnly() throws Exception {
+        String existingEmail = create("Existing", "bulk.existing@company.com").getEmail();
+        List<EmployeeDto> rows = List.of(
+                employee("Create", "bulk.first@company.com"),
+                employee("Create", existingEmail),
+                employee("Create", "bulk.first@company.com"),
+                employee("Create", "bulk.second@company.com"),
+                employee("Create", ""));
+
+        String body = mockMvc.perform(post("/api/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(5))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[*].status", contains("CREATED", "FAILED", "FAILED", "CREATED", "FAILED")))
+                .andExpect(jsonPath("$.results[1].error").value("Email already exists"))
+                .andExpect(jsonPath("$.results[2].error").value("Email already exists"))
+                .andExpect(jsonPath("$.results[4].error", containsString("email")))
+                .andReturn().getResponse().getContentAsString();
+
+        for (int index : new int[]{0, 3}) {
+            Number id = JsonPath.read(body, "$.results[" + index + "].id");
+            track(id.longValue());
+            assertThat(employeeService.getEmployeeById(id.longValue()).getEmail()).isEqualTo(rows.get(index).getEmail());
+        }
+    }
+
+    @Test
+    void requestsOverTheMaximumSizeAreRejected() throws Exception {
+        int before = employeeService.getAllEmployees().size();
+        List<EmployeeDto> rows = new ArrayList<>();
+        for (int i = 0; i <= maxBulkSize; i++) {
+            rows.add(employee("Create", "bulk.cap" + i + "@company.com"));
+        }
+
+        mockMvc.perform(post("/api/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At most " + maxBulkSize + " employees can be created per request"));
+
+        assertThat(employeeService.getAllEmployees()).hasSize(before);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.service.ResponseBodyCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the employee read paths against N+1 lazy loading: each request must be answered by a
+ * single joined projection query without materializing any entity.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class EmployeeControllerQueryCountTest extends EmployeeFixtureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    private Statistics statistics;
+
+    private Long existingId;
+
+    @BeforeEach
+    void resetStatistics() {
+        existingId = create("QueryCount", "query.count@company.com").getId();
+        responseBodyCache.invalidateAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingAllEmployeesIssuesOneStatement() throws Exception {
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+
+        assertSingleProjectionQuery();
+    }
+
+    @Test
+    void readingAPageIssuesOneStatement() throws Exception {
+        mockMvc.perform(get("/api/employees").param("limit", "3").param("sort", "lastName"))
+                .andExpect(status().isOk());
+
+        assertSingleProjectionQuery();
+    }
+
+    @Test
+    void readingOneEmployeeIssuesOneStatement() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", existingId)).andExpect(status().isOk());
+
+        assertSingleProjectionQuery();
+    }
+
+    @Test
+    void revalidatingWithCurrentEtagIssuesNoStatement() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees")).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        statistics.clear();
+
+        mockMvc.perform(get("/api/employees").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void repeatedListingIsServedFromCachedBytes() throws Exception {
+        String body = mockMvc.perform(get("/api/employees")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        statistics.clear();
+
+        String cached = mockMvc.perform(get("/api/employees")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(cached).isEqualTo(body);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private void assertSingleProjectionQuery() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.service.EmployeeService;
+import com.example.hrm.service.ResponseBodyCache;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sparse fieldsets on {@code GET /api/employees}: items carry exactly the requested keys, also
+ * when the id and sort column are read for the cursor, equivalent lists share a cached body, and
+ * unknown fields are rejected. First pages requested with an equivalent sort or an out-of-range
+ * limit share a cached body as well.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class EmployeeFieldsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    @Value("${hrm.employees.page.max-size}")
+    private int maxPageSize;
+
+    @BeforeEach
+    void clearCachedBodies() {
+        // Bodies are compared with fresh reads, and writes from other test contexts do not evict them
+        responseBodyCache.invalidateAll();
+    }
+
+    @Test
+    void listHasOnlyTheRequestedFieldsInRequestOrder() throws Exception {
+        List<EmployeeDto> byId = employeeService.getAllEmployees().stream()
+                .sorted(Comparator.comparing(EmployeeDto::getId))
+                .toList();
+
+        String body = mockMvc.perform(get("/api/employees").param("fields", "lastName,email"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> items = JsonPath.read(body, "$");
+        assertThat(items).hasSameSizeAs(byId);
+        for (int i = 0; i < items.size(); i++) {
+            assertThat(items.get(i).keySet()).containsExactly("lastName", "email");
+            assertThat(items.get(i)).containsEntry("lastName", byId.get(i).getLastName())
+                    .containsEntry("email", byId.get(i).getEmail());
+        }
+    }
+
+    @Test
+    void equivalentFieldListsShareOneCachedBody() throws Exception {
+        String canonical = mockMvc.perform(get("/api/employees").param("fields", "email,lastName"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long misses = responseBodyCache.stats().getMisses();
+
+        mockMvc.perform(get("/api/employees").param("fields", "EMAIL, lastName,email"))
+                .andExpect(status().isOk())
+                .andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEqualTo(canonical));
+        assertThat(responseBodyCache.stats().getMisses()).isEqualTo(misses);
+    }
+
+    @Test
+    void equivalentSortAndLimitShareOneCachedBody() throws Exception {
+        String canonical = mockMvc.perform(get("/api/employees").param("sort", "lastName")
+                        .param("limit", String.valueOf(maxPageSize)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long misses = responseBodyCache.stats().getMisses();
+
+        for (String[] params : new String[][]{{"LASTNAME", "999999"}, {"lastName,asc", String.valueOf(maxPageSize + 1)},
+                {" lastname , ASC", String.valueOf(maxPageSize)}}) {
+            mockMvc.perform(get("/api/employees").param("sort", params[0]).param("limit", params[1]))
+                    .andExpect(status().isOk())
+                    .andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEqualTo(canonical));
+        }
+        assertThat(responseBodyCache.stats().getMisses()).isEqualTo(misses);
+    }
+
+    @Test
+    void cursorColumnsAreReadButNotReturned() throws Exception {
+        List<String> expected = employeeService.getAllEmployees().stream()
+                .sorted(Comparator.comparing(EmployeeDto::getSalary).thenComparing(EmployeeDto::getId))
+                .map(EmployeeDto::getEmail)
+                .toList();
+
+        List<String> emails = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/employees").param("fields", "email").param("sort", "salary").param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Map<String, Object>> items = JsonPath.read(body, "$.items");
+            for (Map<String, Object> item : items) {
+                assertThat(item.keySet()).containsExactly("email");
+                emails.add((String) item.get("email"));
+            }
+            cursor = JsonPath.read(body, "$.nextCursor");
+        } while (cursor != null);
+
+        assertThat(emails).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/employees").param("fields", "email,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported field: password"));
+        mockMvc.perform(get("/api/employees/search").param("fields", "password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/employees").param("fields", " , "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("fields must name at least one field"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.dto.EmployeeDto;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset pagination of {@code GET /api/employees}: following {@code nextCursor} visits every
+ * employee exactly once in sort order, also across rows that share the sort value.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class EmployeePaginationTest extends EmployeeFixtureTest {
+
+    private static final double TIED_SALARY = 43210.0;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void createTiedEmployees() {
+        for (int i = 0; i < 5; i++) {
+            EmployeeDto employee = employee("Page" + i, "tied.page" + i + "@company.com");
+            employee.setSalary(TIED_SALARY);
+            create(employee);
+        }
+    }
+
+    @Test
+    void cursorsVisitEveryEmployeeOnceAcrossTies() throws Exception {
+        Comparator<EmployeeDto> bySalaryThenId = Comparator.comparing(EmployeeDto::getSalary)
+                .thenComparing(EmployeeDto::getId);
+        List<Long> ascending = employeeService.getAllEmployees().stream()
+                .sorted(bySalaryThenId)
+                .map(EmployeeDto::getId)
+                .toList();
+        List<Long> descending = employeeService.getAllEmployees().stream()
+                .sorted(bySalaryThenId.reversed())
+                .map(EmployeeDto::getId)
+                .toList();
+
+        assertThat(walk("salary")).containsExactlyElementsOf(ascending);
+        assertThat(walk("salary,desc")).containsExactlyElementsOf(descending);
+    }
+
+    @Test
+    void cursorForAnotherSortOrderIsRejected() throws Exception {
+        String cursor = JsonPath.read(mockMvc.perform(get("/api/employees").param("sort", "salary").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/employees").param("sort", "lastName").param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("different sort order")));
+        mockMvc.perform(get("/api/employees").param("sort", "salary,desc").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void malformedCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/employees").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    // Pages of two through the whole collection, returning the ids in the order they were served
+    private List<Long> walk(String sort) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/employees").param("sort", sort).param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Number> page = JsonPath.read(body, "$.items[*].id");
+            page.forEach(id -> ids.add(id.longValue()));
+            cursor = JsonPath.read(body, "$.nextCursor");
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hrm.controller;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.dto.DepartmentDto;
+import com.example.hrm.dto.EmployeeDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Filters of {@code GET /api/employees/search} against a few employees created for the test, whose
+ * last names differ only where a LIKE wildcard would stand.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class EmployeeSearchTest extends EmployeeFixtureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private DepartmentDto otherDepartment;
+
+    @BeforeEach
+    void createEmployees() {
+        otherDepartment = createDepartment("Search Other");
+
+        EmployeeDto mixed = employee("Zq_Search", "Zq.Mixed@Company.com");
+        mixed.setSalary(61000.0);
+        mixed.setHireDate(LocalDate.of(2023, 3, 1));
+        create(mixed);
+
+        EmployeeDto other = employee("ZqxSearch", "zq.other@company.com");
+        other.setSalary(52000.0);
+        other.setHireDate(LocalDate.of(2021, 5, 10));
+        create(other);
+
+        EmployeeDto percent = employee("Zq%Search", "zq.pct@company.com");
+        percent.setSalary(75000.0);
+        percent.setHireDate(LocalDate.of(2023, 7, 15));
+        percent.setDepartmentId(otherDepartment.getId());
+        create(percent);
+    }
+
+    @Test
+    void emailFilterIgnoresCase() throws Exception {
+        mockMvc.perform(get("/api/employees/search").param("email", "zq.mixed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].email", contains("Zq.Mixed@Company.com")));
+
+        mockMvc.perform(get("/api/employees/search").param("email", "ZQ.MIXED@company"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].email", contains("Zq.Mixed@Company.com")));
+    }
+
+    @Test
+    void wildcardsInFiltersMatchLiterally() throws Exception {
+        mockMvc.perform(get("/api/employees/search").param("name", "zq_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq_Search")));
+
+        mockMvc.perform(get("/api/employees/search").param("name", "Zq%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq%Search")));
+
+        mockMvc.perform(get("/api/employees/search").param("email", "zq_other"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", empty()));
+    }
+
+    @Test
+    void filtersCombine() throws Exception {
+        mockMvc.perform(get("/api/employees/search").param("name", "zq")
+                        .param("departmentId", department.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq_Search", "ZqxSearch")));
+
+        mockMvc.perform(get("/api/employees/search").param("name", "zq")
+                        .param("departmentId", department.getId().toString())
+                        .param("minSalary", "55000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq_Search")));
+
+        mockMvc.perform(get("/api/employees/search").param("name", "zq")
+                        .param("hiredFrom", "2022-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq_Search", "Zq%Search")));
+
+        mockMvc.perform(get("/api/employees/search").param("email", "zq.")
+                        .param("hiredTo", "2023-06-30")
+                        .param("maxSalary", "70000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq_Search", "ZqxSearch")));
+
+        mockMvc.perform(get("/api/employees/search").param("name", "zq")
+                        .param("departmentId", otherDepartment.getId().toString())
+                        .param("roleId", role.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].lastName", contains("Zq%Search")));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.DepartmentDto;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+class DepartmentServiceTest extends ReferenceDataServiceTest<DepartmentDto> {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Override
+    protected List<DepartmentDto> getAll() {
+        return departmentService.getAllDepartments();
+    }
+
+    @Override
+    protected DepartmentDto getById(Long id) {
+        return departmentService.getDepartmentById(id);
+    }
+
+    @Override
+    protected DepartmentDto create(String name, String description) {
+        return departmentService.createDepartment(new DepartmentDto(null, name, description));
+    }
+
+    @Override
+    protected DepartmentDto update(Long id, String name, String description) {
+        return departmentService.updateDepartment(id, new DepartmentDto(null, name, description));
+    }
+
+    @Override
+    protected void delete(Long id) {
+        departmentService.deleteDepartment(id);
+    }
+
+    @Override
+    protected Long idOf(DepartmentDto dto) {
+        return dto.getId();
+    }
+
+    @Override
+    protected String nameOf(DepartmentDto dto) {
+        return dto.getName();
+    }
+
+    @Override
+    protected String descriptionOf(DepartmentDto dto) {
+        return dto.getDescription();
+    }
+}
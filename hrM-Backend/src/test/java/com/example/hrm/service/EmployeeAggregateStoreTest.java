@@ -0,0 +1,149 @@
+package com.example.hrm.service;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.dto.DepartmentDto;
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.repo.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies employee writes to a department and role of their own and checks after each one that
+ * the aggregates maintained from commit events equal the GROUP BY results of the database, also
+ * when a reconciliation runs while a write is between its commit and its delta.
+ */
+class EmployeeAggregateStoreTest extends EmployeeFixtureTest {
+
+    @Autowired
+    private EmployeeAggregateStore aggregateStore;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private DepartmentDto otherDepartment;
+    private int members;
+
+    @BeforeEach
+    void createOtherGroup() {
+        // Start from the database as it is now, whatever earlier tests left in the store
+        aggregateStore.reconcile();
+        otherDepartment = createDepartment("Aggregates Other");
+    }
+
+    @Test
+    void createsUpdatesAndDeletesAreApplied() {
+        EmployeeDto low = create(department, 40000.0);
+        create(department, 50000.0);
+        EmployeeDto high = create(department, 60000.0);
+        assertMatchesDatabase();
+        assertThat(departmentStats(department)).extracting(GroupStatsDto::getHeadcount, GroupStatsDto::getTotalSalary,
+                GroupStatsDto::getMinSalary, GroupStatsDto::getMaxSalary)
+                .containsExactly(3L, 150000.0, 40000.0, 60000.0);
+
+        low.setSalary(45000.0);
+        employeeService.updateEmployee(low.getId(), low);
+        assertMatchesDatabase();
+
+        high.setDepartmentId(otherDepartment.getId());
+        employeeService.updateEmployee(high.getId(), high);
+        assertMatchesDatabase();
+        assertThat(departmentStats(otherDepartment).getHeadcount()).isEqualTo(1);
+    }
+
+    @Test
+    void removingTheExtremeSalaryRereadsTheBounds() {
+        EmployeeDto low = create(department, 40000.0);
+        create(department, 50000.0);
+        EmployeeDto high = create(department, 60000.0);
+
+        delete(high);
+        assertMatchesDatabase();
+        assertThat(departmentStats(department).getMaxSalary()).isEqualTo(50000.0);
+
+        delete(low);
+        assertMatchesDatabase();
+        assertThat(departmentStats(department).getMinSalary()).isEqualTo(50000.0);
+    }
+
+    @Test
+    void loweringTheMaximumRereadsTheBounds() {
+        create(department, 40000.0);
+        EmployeeDto high = create(department, 60000.0);
+
+        high.setSalary(30000.0);
+        employeeService.updateEmployee(high.getId(), high);
+
+        assertMatchesDatabase();
+        assertThat(departmentStats(department)).extracting(GroupStatsDto::getMinSalary, GroupStatsDto::getMaxSalary)
+                .containsExactly(30000.0, 40000.0);
+    }
+
+    @Test
+    void reconcileBetweenCommitAndDeltaCountsTheWriteOnce() {
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                // The row is committed but the store has not seen its delta yet; the rebuild
+                // needs a connection of its own, so it runs on another thread
+                @Override
+                public void afterCommit() {
+                    CompletableFuture.runAsync(aggregateStore::reconcile).join();
+                }
+            });
+            create(department, 40000.0);
+        });
+
+        assertMatchesDatabase();
+        assertThat(departmentStats(department).getHeadcount()).isEqualTo(1);
+    }
+
+    private void assertMatchesDatabase() {
+        for (DepartmentDto group : List.of(department, otherDepartment)) {
+            assertSameGroup(departmentStats(group), employeeRepository.summarizeDepartment(group.getId()).orElse(null));
+        }
+        GroupStatsDto roleStats = aggregateStore.roleStats(Map.of(role.getId(), role.getName())).get(0);
+        assertSameGroup(roleStats, employeeRepository.summarizeRole(role.getId()).orElse(null));
+    }
+
+    private static void assertSameGroup(GroupStatsDto store, GroupStatsDto database) {
+        if (database == null || database.getHeadcount() == 0) {
+            assertThat(store.getHeadcount()).isZero();
+            return;
+        }
+        assertThat(store.getHeadcount()).isEqualTo(database.getHeadcount());
+        assertThat(store.getTotalSalary()).isEqualTo(database.getTotalSalary());
+        assertThat(store.getMinSalary()).isEqualTo(database.getMinSalary());
+        assertThat(store.getMaxSalary()).isEqualTo(database.getMaxSalary());
+    }
+
+    private GroupStatsDto departmentStats(DepartmentDto group) {
+        return aggregateStore.departmentStats(Map.of(group.getId(), group.getName())).get(0);
+    }
+
+    private EmployeeDto create(DepartmentDto group, double salary) {
+        int n = members++;
+        EmployeeDto employee = employee("Member" + n, "aggregate.member" + n + "@company.com");
+        employee.setDepartmentId(group.getId());
+        employee.setSalary(salary);
+        return create(employee);
+    }
+}
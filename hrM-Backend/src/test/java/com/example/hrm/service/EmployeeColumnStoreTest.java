@@ -0,0 +1,166 @@
+package com.example.hrm.service;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.GroupStatsDto;
+import com.example.hrm.dto.SalaryHistogramDto;
+import com.example.hrm.repo.EmployeeRepository;
+import com.example.hrm.service.EmployeeColumnStore.Dimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the analytics column store against results computed from the database after creates,
+ * updates and deletes, including deletes that move the last row into the hole they leave.
+ */
+class EmployeeColumnStoreTest extends EmployeeFixtureTest {
+
+    private static final double[] PERCENTILES = {1, 25, 50, 90, 99.5, 100};
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private int members;
+
+    @BeforeEach
+    void loadColumns() {
+        // The snapshot is compared with the whole table, so it must include rows written by other tests
+        columnStore.load();
+    }
+
+    @Test
+    void matchesTheDatabaseAcrossWrites() {
+        LocalDate today = LocalDate.now();
+        List<EmployeeDto> created = new ArrayList<>();
+        double[] salaries = {52000, 38000, 71000, 38000, 64000, 45000, 99000, 52000};
+        for (int i = 0; i < salaries.length; i++) {
+            created.add(create(salaries[i], today.minusYears(i).minusDays(i % 2)));
+        }
+        assertMatchesDatabase();
+
+        EmployeeDto raised = created.get(1);
+        raised.setSalary(80000.0);
+        employeeService.updateEmployee(raised.getId(), raised);
+        assertMatchesDatabase();
+
+        // Rows created first are not the last row, so deleting them moves another row into their place
+        delete(created.get(0));
+        delete(created.get(4));
+        assertMatchesDatabase();
+
+        delete(created.get(created.size() - 1));
+        assertMatchesDatabase();
+    }
+
+    @Test
+    void tenureCountsCompletedCalendarYears() {
+        LocalDate today = LocalDate.now();
+        create(50000.0, today.minusYears(3));
+        create(50000.0, today.minusYears(3).plusDays(1));
+        create(50000.0, today.minusYears(5).minusDays(1));
+
+        List<GroupStatsDto> tenure = columnStore.groupBy(Dimension.TENURE, department.getId(), null, Map.of());
+
+        assertThat(tenure).extracting(GroupStatsDto::getId, GroupStatsDto::getHeadcount)
+                .containsExactly(tuple(2L, 1L), tuple(3L, 1L), tuple(5L, 1L));
+    }
+
+    private void assertMatchesDatabase() {
+        List<EmployeeDto> all = employeeService.getAllEmployees();
+        List<EmployeeDto> inDepartment = all.stream()
+                .filter(e -> department.getId().equals(e.getDepartmentId()))
+                .toList();
+
+        for (Long departmentId : new Long[]{null, department.getId()}) {
+            List<EmployeeDto> rows = departmentId == null ? all : inDepartment;
+            assertThat(columnStore.salaryPercentiles(departmentId, null, PERCENTILES).getPercentiles())
+                    .isEqualTo(percentiles(rows));
+            assertSameHistogram(columnStore.salaryHistogram(departmentId, null, 7), rows, 7);
+            assertSameGroups(columnStore.groupBy(Dimension.TENURE, departmentId, null, Map.of()), tenure(rows));
+        }
+        assertSameGroups(columnStore.groupBy(Dimension.DEPARTMENT, null, null, Map.of()),
+                employeeRepository.summarizeByDepartment());
+        assertSameGroups(columnStore.groupBy(Dimension.ROLE, null, null, Map.of()),
+                employeeRepository.summarizeByRole());
+    }
+
+    // Nearest-rank percentiles, keyed like the store keys them
+    private static Map<String, Double> percentiles(List<EmployeeDto> rows) {
+        double[] sorted = rows.stream().mapToDouble(EmployeeDto::getSalary).sorted().toArray();
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (double p : PERCENTILES) {
+            String key = "p" + (p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p));
+            int rank = Math.max((int) Math.ceil(p / 100.0 * sorted.length), 1);
+            result.put(key, sorted[rank - 1]);
+        }
+        return result;
+    }
+
+    private static void assertSameHistogram(SalaryHistogramDto histogram, List<EmployeeDto> rows, int buckets) {
+        double min = rows.stream().mapToDouble(EmployeeDto::getSalary).min().orElseThrow();
+        double max = rows.stream().mapToDouble(EmployeeDto::getSalary).max().orElseThrow();
+        double width = (max - min) / buckets;
+        long[] counts = new long[buckets];
+        rows.forEach(e -> counts[Math.min((int) ((e.getSalary() - min) / width), buckets - 1)]++);
+
+        assertThat(histogram.getCount()).isEqualTo(rows.size());
+        assertThat(histogram.getMin()).isEqualTo(min);
+        assertThat(histogram.getMax()).isEqualTo(max);
+        assertThat(histogram.getBuckets()).containsExactly(counts);
+    }
+
+    private static List<GroupStatsDto> tenure(List<EmployeeDto> rows) {
+        LocalDate today = LocalDate.now();
+        Map<Long, List<Double>> byYears = new TreeMap<>();
+        rows.forEach(e -> byYears.computeIfAbsent((long) Math.min(Period.between(e.getHireDate(), today).getYears(), 50),
+                k -> new ArrayList<>()).add(e.getSalary()));
+        List<GroupStatsDto> result = new ArrayList<>();
+        byYears.forEach((years, salaries) -> {
+            double sum = salaries.stream().mapToDouble(Double::doubleValue).sum();
+            result.add(new GroupStatsDto(years, null, (long) salaries.size(), sum, sum / salaries.size(),
+                    salaries.stream().mapToDouble(Double::doubleValue).min().orElseThrow(),
+                    salaries.stream().mapToDouble(Double::doubleValue).max().orElseThrow()));
+        });
+        return result;
+    }
+
+    // Groups without employees are left out by the store but reported with a zero count by the database
+    private static void assertSameGroups(List<GroupStatsDto> store, List<GroupStatsDto> expected) {
+        Map<Long, GroupStatsDto> byId = new TreeMap<>();
+        store.forEach(group -> byId.put(group.getId(), group));
+        List<GroupStatsDto> nonEmpty = expected.stream().filter(group -> group.getHeadcount() > 0).toList();
+
+        assertThat(byId.keySet()).containsExactlyInAnyOrderElementsOf(nonEmpty.stream().map(GroupStatsDto::getId).toList());
+        for (GroupStatsDto group : nonEmpty) {
+            GroupStatsDto actual = byId.get(group.getId());
+            assertThat(actual.getHeadcount()).isEqualTo(group.getHeadcount());
+            assertThat(actual.getTotalSalary()).isCloseTo(group.getTotalSalary(), within(0.01));
+            assertThat(actual.getMinSalary()).isEqualTo(group.getMinSalary());
+            assertThat(actual.getMaxSalary()).isEqualTo(group.getMaxSalary());
+        }
+    }
+
+    private EmployeeDto create(double salary, LocalDate hireDate) {
+        int n = members++;
+        EmployeeDto employee = employee("Member" + n, "column.member" + n + "@company.com");
+        employee.setSalary(salary);
+        employee.setHireDate(hireDate);
+        return create(employee);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.model.Department;
+import com.example.hrm.model.Employee;
+import com.example.hrm.model.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping used for single-employee reads and writes. Lives in the service package
+ * because {@link EmployeeService#toDto} is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMappingBenchmark {
+
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        employee = new Employee(1L, "John", "Doe", "john.doe@company.com", "555-0101",
+                LocalDate.of(2020, 1, 15), 75_000.0,
+                new Department(1L, "Engineering", "Software development"),
+                new Role(1L, "Software Engineer", "Develops software"));
+    }
+
+    @Benchmark
+    public EmployeeDto toDto() {
+        return EmployeeService.toDto(employee);
+    }
+}
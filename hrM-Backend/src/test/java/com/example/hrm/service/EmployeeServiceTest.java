@@ -0,0 +1,81 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.exception.QueryBudgetExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the employee service with query budgets enforced: a method issuing more statements than its
+ * {@link QueryBudget}, or repeating a select per row, fails with QueryBudgetExceededException, and a
+ * transaction that fails the check is rolled back.
+ */
+@SpringBootTest(properties = "hrm.query-budget.mode=fail")
+class EmployeeServiceTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void readsStayWithinBudget() {
+        List<EmployeeDto> employees = employeeService.getAllEmployees();
+        assertThat(employees).isNotEmpty();
+
+        assertThat(employeeService.getEmployeeById(employees.get(0).getId()).getId())
+                .isEqualTo(employees.get(0).getId());
+        assertThat(employeeService.getEmployeePage("lastName,desc", null, 3).getItems()).hasSize(3);
+        assertThat(employeeService.getEmployeeFields("id,lastName")).hasSameSizeAs(employees);
+    }
+
+    @Test
+    void writesStayWithinBudget() {
+        Long departmentId = departmentService.getAllDepartments().get(0).getId();
+        Long roleId = roleService.getAllRoles().get(0).getId();
+
+        EmployeeDto created = employeeService.createEmployee(new EmployeeDto(null, "Query", "Budget",
+                "query.budget@company.com", "+1-555-0100", LocalDate.of(2024, 1, 15), 50000.0,
+                departmentId, null, roleId, null));
+        created.setSalary(55000.0);
+        EmployeeDto updated = employeeService.updateEmployee(created.getId(), created);
+        employeeService.deleteEmployee(created.getId());
+
+        assertThat(updated.getSalary()).isEqualTo(55000.0);
+    }
+
+    @Test
+    void transactionOverBudgetRollsBack() {
+        Long departmentId = departmentService.getAllDepartments().get(0).getId();
+        Long roleId = roleService.getAllRoles().get(0).getId();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            EmployeeDto created = employeeService.createEmployee(new EmployeeDto(null, "Query", "Rollback",
+                    "query.rollback@company.com", "+1-555-0100", LocalDate.of(2024, 1, 15), 50000.0,
+                    departmentId, null, roleId, null));
+            // One select per call, within each method's budget but repeated in the transaction
+            for (int i = 0; i < 3; i++) {
+                employeeService.getEmployeeById(created.getId());
+            }
+        })).isInstanceOf(QueryBudgetExceededException.class);
+
+        assertThat(employeeService.getAllEmployees())
+                .extracting(EmployeeDto::getEmail)
+                .doesNotContain("query.rollback@company.com");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.hrm.service;
+
+import com.example.hrm.EmployeeFixtureTest;
+import com.example.hrm.dto.EmployeeDto;
+import com.example.hrm.dto.EmployeeSuggestionDto;
+import com.example.hrm.repo.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that committed employee writes reach the type-ahead index through the JPA lifecycle
+ * listener, and that rolled back ones do not.
+ */
+class EmployeeSuggestIndexTest extends EmployeeFixtureTest {
+
+    @Autowired
+    private EmployeeSuggestIndex suggestIndex;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void createdEmployeeIsSuggested() {
+        EmployeeDto employee = create("Vandersnoot", "q.vandersnoot@company.com");
+
+        assertThat(ids(suggestIndex.suggest("andersno", 10))).containsExactly(employee.getId());
+        assertThat(ids(suggestIndex.suggest("Q.VANDER", 10))).containsExactly(employee.getId());
+    }
+
+    @Test
+    void updateReplacesTheIndexedTerms() {
+        EmployeeDto employee = create("Vandersnoot", "q.vandersnoot@company.com");
+
+        employee.setLastName("Pemberthwick");
+        employee.setEmail("q.pemberthwick@company.com");
+        employeeService.updateEmployee(employee.getId(), employee);
+
+        assertThat(suggestIndex.suggest("vandersnoot", 10)).isEmpty();
+        assertThat(suggestIndex.suggest("pemberth", 10))
+                .extracting(EmployeeSuggestionDto::getLastName)
+                .containsExactly("Pemberthwick");
+    }
+
+    @Test
+    void deletedEmployeeIsNoLongerSuggested() {
+        EmployeeDto employee = create("Vandersnoot", "q.vandersnoot@company.com");
+
+        delete(employee);
+
+        assertThat(suggestIndex.suggest("vandersnoot", 10)).isEmpty();
+    }
+
+    @Test
+    void rolledBackCreateIsNotIndexed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.createEmployee(employee("Rollbackson", "q.rollbackson@company.com"));
+            // Flush so that the insert and its lifecycle callback happen before the rollback
+            employeeRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(suggestIndex.suggest("rollbackson", 10)).isEmpty();
+    }
+
+    @Test
+    void entriesSurviveCompaction() {
+        EmployeeDto employee = create("Vandersnoot", "q.vandersnoot@company.com");
+        // Enough removed entries to make the index rebuild its segment without them
+        for (long id = -1; id >= -3000; id--) {
+            suggestIndex.put(new EmployeeSuggestionDto(id, "Compact", "Churnington", "churn" + -id + "@company.com"));
+        }
+        for (long id = -1; id >= -3000; id--) {
+            suggestIndex.remove(id);
+        }
+
+        assertThat(suggestIndex.suggest("churnington", 10)).isEmpty();
+        assertThat(ids(suggestIndex.suggest("vandersnoot", 10))).containsExactly(employee.getId());
+    }
+
+    private static List<Long> ids(List<EmployeeSuggestionDto> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDto::getId).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.hrm.service;
+
+import com.example.hrm.config.QueryBudgetInspector;
+import com.example.hrm.exception.QueryBudgetExceededException;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs a reference data service (departments or roles) with query budgets enforced, see
+ * {@link EmployeeServiceTest}, and checks that its entities are read from the second-level and
+ * query caches until they change. Subclasses adapt the service and its DTO.
+ */
+@SpringBootTest(properties = "hrm.query-budget.mode=fail")
+abstract class ReferenceDataServiceTest<D> {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private QueryBudgetInspector queryBudgetInspector;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected abstract List<D> getAll();
+
+    protected abstract D getById(Long id);
+
+    protected abstract D create(String name, String description);
+
+    protected abstract D update(Long id, String name, String description);
+
+    protected abstract void delete(Long id);
+
+    protected abstract Long idOf(D dto);
+
+    protected abstract String nameOf(D dto);
+
+    protected abstract String descriptionOf(D dto);
+
+    @Test
+    void readsStayWithinBudget() {
+        List<D> all = getAll();
+        assertThat(all).isNotEmpty();
+
+        assertThat(nameOf(getById(idOf(all.get(0))))).isEqualTo(nameOf(all.get(0)));
+    }
+
+    @Test
+    void writesStayWithinBudget() {
+        D created = create("Query Budget", "Created by a test");
+        D updated = update(idOf(created), "Query Budget", "Updated by a test");
+        delete(idOf(created));
+
+        assertThat(descriptionOf(updated)).isEqualTo("Updated by a test");
+    }
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        Long id = idOf(getAll().get(0));
+        getById(id);
+
+        QueryBudgetInspector.Scope scope = queryBudgetInspector.open("cached reads", -1);
+        getAll();
+        getById(id);
+        queryBudgetInspector.close(scope, false);
+
+        assertThat(scope.getStatements()).isZero();
+    }
+
+    @Test
+    void writesInvalidateCachedReads() {
+        D created = create("Cached Entry", "Before");
+        Long id = idOf(created);
+        assertThat(getAll()).extracting(this::descriptionOf).contains("Before");
+        getById(id);
+
+        update(id, "Cached Entry", "After");
+        assertThat(getAll()).extracting(this::descriptionOf)
+                .contains("After")
+                .doesNotContain("Before");
+        assertThat(descriptionOf(getById(id))).isEqualTo("After");
+
+        delete(id);
+        assertThat(getAll()).extracting(this::idOf).doesNotContain(id);
+    }
+
+    @Test
+    void loadingOneByOneInATransactionIsReportedAsNPlusOne() {
+        List<Long> ids = getAll().stream().map(this::idOf).toList();
+        assertThat(ids).hasSizeGreaterThanOrEqualTo(3);
+        entityManagerFactory.getCache().evictAll();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> ids.forEach(this::getById)))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("suspected N+1");
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.CoalescingStatsDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent calls for one key while its load is blocked: the waiters must share the single
+ * load's result or failure, and fall back to their own load once the wait timeout expires.
+ */
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void stopCallers() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneLoad() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(30));
+        Supplier<List<String>> loader = blockingLoader(() -> List.of("result"));
+
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute("employees", loader)));
+        }
+        awaitCollapsed(coalescer, CALLERS - 1);
+        release.countDown();
+
+        List<String> first = results.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<List<String>> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(loads).hasValue(1);
+        CoalescingStatsDto stats = coalescer.stats();
+        assertThat(stats.getCalls()).isEqualTo(CALLERS);
+        assertThat(stats.getExecutions()).isEqualTo(1);
+        assertThat(stats.getInFlight()).isZero();
+
+        coalescer.execute("employees", loader);
+        assertThat(loads).as("a finished load is not reused").hasValue(2);
+    }
+
+    @Test
+    void failureOfTheSharedLoadReachesEveryWaiter() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(30));
+        Supplier<Object> loader = blockingLoader(() -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute("employees", loader)));
+        }
+        awaitCollapsed(coalescer, CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("database unavailable");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void waiterLoadsOnItsOwnAfterTheTimeout() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMillis(50));
+        AtomicInteger ownLoads = new AtomicInteger();
+        Future<String> leader = executor.submit(() -> coalescer.execute("employees", blockingLoader(() -> "shared")));
+        awaitInFlight(coalescer);
+
+        String waiter = coalescer.execute("employees", () -> "own " + ownLoads.incrementAndGet());
+
+        assertThat(waiter).isEqualTo("own 1");
+        assertThat(coalescer.stats().getTimeouts()).isEqualTo(1);
+        release.countDown();
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("shared");
+    }
+
+    // Counts its invocations and holds each one until the test releases it
+    private <T> Supplier<T> blockingLoader(Supplier<T> result) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private static void awaitCollapsed(RequestCoalescer coalescer, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (coalescer.stats().getCollapsed() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(coalescer.stats().getCollapsed()).isEqualTo(expected);
+    }
+
+    private static void awaitInFlight(RequestCoalescer coalescer) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (coalescer.stats().getInFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(coalescer.stats().getInFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hrm.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The gzip copy of a cached body is only served to clients whose {@code Accept-Encoding} gives gzip
+ * a q-value above 0.
+ */
+class ResponseBodyCacheTest {
+
+    @Test
+    void gzipIsAcceptedWhenListedWithPositiveQuality() {
+        assertThat(ResponseBodyCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("x-gzip")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("identity, *;q=0.1")).isTrue();
+    }
+
+    @Test
+    void gzipIsRefusedWhenMissingOrWeightedZero() {
+        assertThat(ResponseBodyCache.acceptsGzip(null)).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip; q=0.000, *")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("identity, x-gzip-foo")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("*;q=0")).isFalse();
+    }
+}
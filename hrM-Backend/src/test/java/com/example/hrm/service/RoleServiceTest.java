@@ -0,0 +1,52 @@
+package com.example.hrm.service;
+
+import com.example.hrm.dto.RoleDto;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+class RoleServiceTest extends ReferenceDataServiceTest<RoleDto> {
+
+    @Autowired
+    private RoleService roleService;
+
+    @Override
+    protected List<RoleDto> getAll() {
+        return roleService.getAllRoles();
+    }
+
+    @Override
+    protected RoleDto getById(Long id) {
+        return roleService.getRoleById(id);
+    }
+
+    @Override
+    protected RoleDto create(String name, String description) {
+        return roleService.createRole(new RoleDto(null, name, description));
+    }
+
+    @Override
+    protected RoleDto update(Long id, String name, String description) {
+        return roleService.updateRole(id, new RoleDto(null, name, description));
+    }
+
+    @Override
+    protected void delete(Long id) {
+        roleService.deleteRole(id);
+    }
+
+    @Override
+    protected Long idOf(RoleDto dto) {
+        return dto.getId();
+    }
+
+    @Override
+    protected String nameOf(RoleDto dto) {
+        return dto.getName();
+    }
+
+    @Override
+    protected String descriptionOf(RoleDto dto) {
+        return dto.getDescription();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.hrm.service;
+
+import com.example.hrm.model.User;
+import com.example.hrm.repo.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revocations must outlive the in-memory version table: a new {@link TokenVersionService} stands
+ * in for a restart against the same database.
+ */
+@SpringBootTest
+class TokenVersionServiceTest {
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void revokedVersionStaysRevokedAfterRestart() {
+        int issued = tokenVersionService.currentVersion("employee");
+        tokenVersionService.revoke("employee");
+
+        TokenVersionService restarted = new TokenVersionService(userRepository);
+        restarted.load();
+
+        assertThat(restarted.isCurrent("employee", issued)).isFalse();
+        assertThat(restarted.isCurrent("employee", tokenVersionService.currentVersion("employee"))).isTrue();
+    }
+
+    @Test
+    void recreatedUserDoesNotAcceptTokensOfTheEarlierAccount() {
+        User first = userRepository.save(new User("token-version-user", "{noop}x", "tvu@company.com", "ROLE_EMPLOYEE"));
+        int issued = tokenVersionService.currentVersion(first.getUsername());
+        userRepository.delete(first);
+
+        User recreated = userRepository.save(new User("token-version-user", "{noop}x", "tvu@company.com", "ROLE_EMPLOYEE"));
+        TokenVersionService restarted = new TokenVersionService(userRepository);
+        restarted.load();
+
+        assertThat(recreated.getTokenVersion()).isNotZero();
+        assertThat(restarted.isCurrent("token-version-user", issued)).isFalse();
+        userRepository.delete(recreated);
+    }
+
+    @Test
+    void tokensOfUnknownUsersAreNeverCurrent() {
+        assertThat(tokenVersionService.isCurrent("no-such-user", 0)).isFalse();
+    }
+}
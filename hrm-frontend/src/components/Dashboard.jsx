@@ -17,16 +17,12 @@ const Dashboard = ({ user }) => {
   const fetchStats = useCallback(async () => {
     try {
       setLoading(true);
-      const [employeesRes, departmentsRes, rolesRes] = await Promise.all([
-        apiClient.get(API_ENDPOINTS.EMPLOYEES),
-        apiClient.get(API_ENDPOINTS.DEPARTMENTS),
-        apiClient.get(API_ENDPOINTS.ROLES)
-      ]);
+      const { data: summary } = await apiClient.get(API_ENDPOINTS.DASHBOARD_SUMMARY);
 
       setStats({
-        totalEmployees: employeesRes.data.length,
-        totalDepartments: departmentsRes.data.length,
-        totalRoles: rolesRes.data.length
+        totalEmployees: summary.employeeCount,
+        totalDepartments: summary.departmentCount,
+        totalRoles: summary.roleCount
       });
       setError('');
     } catch (err) {
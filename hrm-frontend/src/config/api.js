@@ -10,4 +10,5 @@ export const API_ENDPOINTS = {
   EMPLOYEES: '/employees',
   DEPARTMENTS: '/departments',
   ROLES: '/roles',
+  DASHBOARD_SUMMARY: '/dashboard/summary',
 };